@@ -0,0 +1,11 @@
+package com.bash.Event.ticketing.Exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class CacheNotFoundException extends RuntimeException {
+    public CacheNotFoundException(String message) {
+        super(message);
+    }
+}
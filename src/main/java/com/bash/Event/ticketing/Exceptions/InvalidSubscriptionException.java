@@ -0,0 +1,11 @@
+package com.bash.Event.ticketing.Exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidSubscriptionException extends RuntimeException {
+    public InvalidSubscriptionException(String message) {
+        super(message);
+    }
+}
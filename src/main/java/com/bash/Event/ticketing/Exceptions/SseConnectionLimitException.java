@@ -0,0 +1,11 @@
+package com.bash.Event.ticketing.Exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class SseConnectionLimitException extends RuntimeException {
+    public SseConnectionLimitException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,4 @@
+package com.bash.Event.ticketing.authentication.domain;
+
+public record UserRegistered(User user, String verificationToken) {
+}
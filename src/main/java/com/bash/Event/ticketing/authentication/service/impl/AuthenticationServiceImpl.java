@@ -6,6 +6,7 @@ import com.bash.Event.ticketing.Exceptions.TokenExpiredException;
 import com.bash.Event.ticketing.Exceptions.TokenRefreshException;
 import com.bash.Event.ticketing.authentication.domain.RefreshToken;
 import com.bash.Event.ticketing.authentication.domain.User;
+import com.bash.Event.ticketing.authentication.domain.UserRegistered;
 import com.bash.Event.ticketing.authentication.domain.UserRole;
 import com.bash.Event.ticketing.authentication.dto.request.LoginRequest;
 import com.bash.Event.ticketing.authentication.dto.request.PasswordResetRequest;
@@ -24,6 +25,7 @@ import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -45,6 +47,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     private final PasswordEncoder passwordEncoder;
     private final RefreshTokenService refreshTokenService;
     private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -76,8 +79,8 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         // Generate verification token
         String verificationToken = jwtService.generateVerificationToken(user.getEmail());
 
-        // Send verification email
-        emailService.sendVerificationEmail(user, verificationToken);
+        // Verification email is sent once the user row has committed
+        eventPublisher.publishEvent(new UserRegistered(user, verificationToken));
 
         return new MessageResponse("User registered successfully! Please check your email to verify your account.");
     }
@@ -0,0 +1,19 @@
+package com.bash.Event.ticketing.cache;
+
+import java.util.List;
+
+// Keys evicted together on one node, for every other node to drop from its L1. An entry with a
+// null key clears its cache, and one with a null cache name clears every cache.
+public record CacheInvalidation(String origin, List<Entry> entries) {
+
+    public record Entry(String cacheName, String key) {
+    }
+
+    public static CacheInvalidation of(String origin, String cacheName, String key) {
+        return new CacheInvalidation(origin, List.of(new Entry(cacheName, key)));
+    }
+
+    public static CacheInvalidation clear(String origin, String cacheName) {
+        return of(origin, cacheName, null);
+    }
+}
@@ -0,0 +1,11 @@
+package com.bash.Event.ticketing.cache;
+
+import java.util.function.Consumer;
+
+// Carries L1 invalidations to every node, the publisher included.
+public interface CacheInvalidationBus {
+
+    void publish(CacheInvalidation invalidation);
+
+    void addListener(Consumer<CacheInvalidation> listener);
+}
@@ -0,0 +1,131 @@
+package com.bash.Event.ticketing.cache;
+
+import com.bash.Event.ticketing.event.domain.EventChanged;
+import com.bash.Event.ticketing.event.domain.TicketCreated;
+import com.bash.Event.ticketing.event.domain.TicketPurchased;
+import com.bash.Event.ticketing.event.domain.TicketScanned;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.UUID;
+
+// Evicts exactly the entries a committed write made stale. Runs after commit, so a read racing
+// the transaction cannot re-cache the old state, and on the writer's thread, so the writer's next
+// read already misses. Ordered ahead of the other after-commit listeners, such as the dashboard
+// batcher, so none of them can read an entry that is about to be evicted.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidationListener {
+
+    private final CacheManager cacheManager;
+    private final EventPageIndex eventPageIndex;
+    private final MissingIdCache missingIdCache;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onTicketCreated(TicketCreated event) {
+        inBatch(() -> evictTicketData(event.eventId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onTicketPurchased(TicketPurchased event) {
+        inBatch(() -> evictTicketData(event.eventId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onTicketScanned(TicketScanned event) {
+        inBatch(() -> evictTicketData(event.eventId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onEventChanged(EventChanged event) {
+        inBatch(() -> evictEventData(event));
+    }
+
+    private void evictEventData(EventChanged event) {
+        evict(CacheNames.EVENTS, event.eventId());
+        evict(CacheNames.VERSIONS, ResourceVersions.eventKey(event.eventId()));
+        boolean inPlace = EventChanged.UPDATED.equals(event.changeType()) && !event.rescheduled();
+        if (isClustered()) {
+            // The index only knows pages this node loaded, not those loaded elsewhere or read
+            // from L2, so every node drops every page
+            eventPageIndex.removeAllPages();
+            clear(CacheNames.EVENT_PAGES);
+        } else if (inPlace) {
+            // Listings are ordered by start time then id, so the event keeps its position in every
+            // page and only the pages showing it change
+            evictPages(eventPageIndex.removePagesFor(event.eventId()));
+        } else {
+            // An insert, a delete or a new start time shifts page boundaries, so every page may now
+            // list different events
+            evictPages(eventPageIndex.removeAllPages());
+        }
+        if (!inPlace) {
+            evict(CacheNames.DASHBOARD, CacheNames.DASHBOARD_INSIGHTS_KEY);
+        }
+        if (EventChanged.DELETED.equals(event.changeType())) {
+            evict(CacheNames.TICKETS, event.eventId());
+            evict(CacheNames.VERSIONS, ResourceVersions.ticketsKey(event.eventId()));
+            evict(CacheNames.RESPONSES, ResourceVersions.ticketsKey(event.eventId()));
+            // Links to a deleted event keep being followed; only this node learns it, others on their first miss
+            missingIdCache.recordMissing(MissingIdCache.eventKey(event.eventId()));
+        }
+        // Rendered responses go last, after everything they are rendered from, so a rendering that
+        // starts after their eviction reads the new state. Pages are cheap to re-render from the
+        // event-pages cache, which keeps unaffected pages, so every rendered page is dropped
+        evict(CacheNames.RESPONSES, ResourceVersions.eventKey(event.eventId()));
+        clear(CacheNames.RESPONSE_PAGES);
+    }
+
+    // Event responses carry no ticket data, so event entries and pages stay cached
+    private void evictTicketData(UUID eventId) {
+        evict(CacheNames.TICKETS, eventId);
+        evict(CacheNames.VERSIONS, ResourceVersions.ticketsKey(eventId));
+        evict(CacheNames.DASHBOARD, CacheNames.DASHBOARD_INSIGHTS_KEY);
+        evict(CacheNames.RESPONSES, ResourceVersions.ticketsKey(eventId));
+    }
+
+    // A commit's evictions leave the node as one L2 delete and one broadcast rather than one of
+    // each per key, since the writer's request waits on them while holding its pooled connection
+    private void inBatch(Runnable evictions) {
+        if (cacheManager instanceof TwoLevelCacheManager twoLevelCacheManager) {
+            twoLevelCacheManager.batchEvictions(evictions);
+        } else {
+            evictions.run();
+        }
+    }
+
+    private boolean isClustered() {
+        return cacheManager instanceof TwoLevelCacheManager twoLevelCacheManager && twoLevelCacheManager.isClustered();
+    }
+
+    private void evictPages(Set<String> pageKeys) {
+        pageKeys.forEach(pageKey -> evict(CacheNames.EVENT_PAGES, pageKey));
+        log.debug("Evicted {} cached event pages", pageKeys.size());
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
+    }
+}
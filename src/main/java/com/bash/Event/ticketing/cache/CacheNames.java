@@ -0,0 +1,23 @@
+package com.bash.Event.ticketing.cache;
+
+public final class CacheNames {
+
+    // Event detail entries keyed by event id
+    public static final String EVENTS = "events";
+    // Event listing pages keyed by EventPageIndex.pageKey
+    public static final String EVENT_PAGES = "event-pages";
+    // Ticket lists keyed by event id
+    public static final String TICKETS = "tickets";
+    public static final String DASHBOARD = "dashboard";
+    // ResourceVersion validators keyed by ResourceVersions.eventKey / ticketsKey
+    public static final String VERSIONS = "versions";
+    // Rendered event detail and ticket list responses, keyed like VERSIONS
+    public static final String RESPONSES = "responses";
+    // Rendered event listing responses keyed by ResponseCacheFilter.pageKey
+    public static final String RESPONSE_PAGES = "response-pages";
+
+    public static final String DASHBOARD_INSIGHTS_KEY = "insights";
+
+    private CacheNames() {
+    }
+}
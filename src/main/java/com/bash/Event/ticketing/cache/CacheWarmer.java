@@ -0,0 +1,140 @@
+package com.bash.Event.ticketing.cache;
+
+import com.bash.Event.ticketing.config.CachingProperties;
+import com.bash.Event.ticketing.event.dto.response.EventResponse;
+import com.bash.Event.ticketing.event.repository.EventRepository;
+import com.bash.Event.ticketing.event.service.EventService;
+import com.bash.Event.ticketing.event.service.TicketService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Preloads the first event pages, upcoming events and their ticket lists after startup, so the
+// first traffic after a deploy does not all miss at once. Loads go through the services, filling
+// exactly the entries requests would. Runs off the startup thread; CacheWarmupHealthIndicator
+// keeps readiness down until it finishes or its time budget runs out.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheWarmer {
+
+    public enum State {
+        PENDING, RUNNING, COMPLETED, TIMED_OUT, DISABLED
+    }
+
+    private final EventService eventService;
+    private final TicketService ticketService;
+    private final EventRepository eventRepository;
+    private final CachingProperties cachingProperties;
+
+    private final AtomicInteger warmed = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private volatile State state = State.PENDING;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!cachingProperties.getWarmup().isEnabled()) {
+            state = State.DISABLED;
+            return;
+        }
+        Thread thread = new Thread(this::warmUp, "CacheWarmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public int getWarmedCount() {
+        return warmed.get();
+    }
+
+    public int getFailedCount() {
+        return failed.get();
+    }
+
+    void warmUp() {
+        CachingProperties.Warmup warmup = cachingProperties.getWarmup();
+        state = State.RUNNING;
+        long started = System.nanoTime();
+        long deadline = started + warmup.getBudget().toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(warmup.getParallelism(),
+                new CustomizableThreadFactory("CacheWarmup-"));
+        try {
+            Set<UUID> eventIds = ConcurrentHashMap.newKeySet();
+            List<CompletableFuture<Void>> listings = new ArrayList<>();
+            for (int page = 0; page < warmup.getPages(); page++) {
+                // Built like the controller builds it, so the page lands under the key requests use
+                Pageable pageable = Pageable.ofSize(warmup.getPageSize()).withPage(page);
+                listings.add(run(executor, () -> eventService.getAllEvents(pageable).getData().getContent()
+                        .forEach(event -> eventIds.add(event.getEventId()))));
+            }
+            if (warmup.getUpcomingEvents() > 0) {
+                listings.add(run(executor, () -> eventIds.addAll(eventRepository.findUpcomingEventIds(
+                        LocalDateTime.now(), PageRequest.of(0, warmup.getUpcomingEvents())))));
+            }
+            await(listings, deadline);
+
+            List<CompletableFuture<Void>> details = new ArrayList<>();
+            for (UUID eventId : eventIds) {
+                details.add(run(executor, () -> eventService.getEventById(eventId)));
+                details.add(run(executor, () -> ticketService.getEventTickets(eventId)));
+            }
+            await(details, deadline);
+            state = State.COMPLETED;
+        } catch (TimeoutException e) {
+            state = State.TIMED_OUT;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            state = State.TIMED_OUT;
+        } finally {
+            executor.shutdownNow();
+        }
+        log.info("Cache warm-up {} after {} ms: {} entries loaded, {} failed", state,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), warmed.get(), failed.get());
+    }
+
+    // A failed load only leaves that entry cold; the rest of the warm-up carries on
+    private CompletableFuture<Void> run(ExecutorService executor, Runnable load) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                load.run();
+                warmed.incrementAndGet();
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+                log.debug("Cache warm-up load failed", e);
+            }
+        }, executor);
+    }
+
+    private static void await(List<CompletableFuture<Void>> loads, long deadline)
+            throws TimeoutException, InterruptedException {
+        try {
+            CompletableFuture.allOf(loads.toArray(CompletableFuture[]::new))
+                    .get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            // Unreachable: run() never completes exceptionally
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.bash.Event.ticketing.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+// Part of the readiness group: out of service until the cache warm-up completes or times out
+@Component
+@RequiredArgsConstructor
+public class CacheWarmupHealthIndicator implements HealthIndicator {
+
+    private final CacheWarmer cacheWarmer;
+
+    @Override
+    public Health health() {
+        CacheWarmer.State state = cacheWarmer.getState();
+        Health.Builder builder = state == CacheWarmer.State.PENDING || state == CacheWarmer.State.RUNNING
+                ? Health.outOfService() : Health.up();
+        return builder
+                .withDetail("state", state)
+                .withDetail("warmed", cacheWarmer.getWarmedCount())
+                .withDetail("failed", cacheWarmer.getFailedCount())
+                .build();
+    }
+}
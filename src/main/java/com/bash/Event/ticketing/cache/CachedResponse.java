@@ -0,0 +1,10 @@
+package com.bash.Event.ticketing.cache;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+// A fully rendered 200 response: headers as written, including the security and validator
+// headers, and the serialized body
+public record CachedResponse(Map<String, List<String>> headers, byte[] body) implements Serializable {
+}
@@ -0,0 +1,86 @@
+package com.bash.Event.ticketing.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// Which cached event pages list which events, so an event write evicts only the pages showing it.
+// Bounded by page count and the event-pages cache TTL, sized above the pages that cache can hold.
+// Only covers pages this node loaded, so it is not used once the caches are shared across nodes.
+@Component
+public class EventPageIndex {
+
+    private final Cache<String, Set<UUID>> eventsByPage;
+    private final ConcurrentMap<UUID, Set<String>> pagesByEvent = new ConcurrentHashMap<>();
+
+    public EventPageIndex(@Value("${app.cache.page-index.max-pages:10000}") int maxPages,
+                          @Value("${app.cache.page-index.expire-after-write:30m}") Duration expireAfterWrite) {
+        this.eventsByPage = Caffeine.newBuilder()
+                .maximumSize(maxPages)
+                .expireAfterWrite(expireAfterWrite)
+                // Runs inside the eviction itself, so the reverse entries never outlive the page
+                .evictionListener((String pageKey, Set<UUID> eventIds, RemovalCause cause) -> unlink(pageKey, eventIds))
+                .build();
+    }
+
+    public static String pageKey(Pageable pageable) {
+        return pageable.getPageNumber() + "_" + pageable.getPageSize();
+    }
+
+    public void record(String pageKey, Collection<UUID> eventIds) {
+        Set<UUID> members = Set.copyOf(eventIds);
+        eventsByPage.asMap().compute(pageKey, (key, previous) -> {
+            unlink(key, previous);
+            members.forEach(eventId -> pagesByEvent
+                    .computeIfAbsent(eventId, id -> ConcurrentHashMap.newKeySet())
+                    .add(key));
+            return members;
+        });
+    }
+
+    // Page keys listing the event, forgotten here since the caller is about to evict them
+    public Set<String> removePagesFor(UUID eventId) {
+        Set<String> pageKeys = pagesByEvent.remove(eventId);
+        if (pageKeys == null) {
+            return Set.of();
+        }
+        for (String pageKey : pageKeys) {
+            unlink(pageKey, eventsByPage.asMap().remove(pageKey));
+        }
+        return pageKeys;
+    }
+
+    // Every known page key; used when an insert or delete shifts what all pages contain
+    public Set<String> removeAllPages() {
+        Set<String> pageKeys = new HashSet<>(eventsByPage.asMap().keySet());
+        pageKeys.forEach(pageKey -> unlink(pageKey, eventsByPage.asMap().remove(pageKey)));
+        return pageKeys;
+    }
+
+    public long size() {
+        return eventsByPage.estimatedSize();
+    }
+
+    private void unlink(String pageKey, Set<UUID> eventIds) {
+        if (eventIds == null) {
+            return;
+        }
+        for (UUID eventId : eventIds) {
+            pagesByEvent.computeIfPresent(eventId, (id, pageKeys) -> {
+                pageKeys.remove(pageKey);
+                return pageKeys.isEmpty() ? null : pageKeys;
+            });
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.bash.Event.ticketing.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+// Approximate per-key hit counts in bounded memory (Space-Saving). At most `capacity` keys are
+// tracked; a new key takes over the least-hit slot and inherits its count, so any key with more
+// than 1/capacity of all hits is always tracked and the most-hit keys rank first.
+public class HotKeyTracker {
+
+    private final int capacity;
+    private final Map<String, Long> counts = new HashMap<>();
+    // count -> keys holding it, so the least-hit key is found without a scan
+    private final NavigableMap<Long, Set<String>> byCount = new TreeMap<>();
+
+    public HotKeyTracker(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public synchronized void recordHit(String key) {
+        Long count = counts.get(key);
+        if (count == null) {
+            count = 0L;
+            if (counts.size() >= capacity) {
+                Map.Entry<Long, Set<String>> least = byCount.firstEntry();
+                Iterator<String> keys = least.getValue().iterator();
+                counts.remove(keys.next());
+                keys.remove();
+                count = least.getKey();
+                if (least.getValue().isEmpty()) {
+                    byCount.remove(count);
+                }
+            }
+        } else {
+            Set<String> keys = byCount.get(count);
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                byCount.remove(count);
+            }
+        }
+        counts.put(key, count + 1);
+        byCount.computeIfAbsent(count + 1, c -> new LinkedHashSet<>()).add(key);
+    }
+
+    // Most-hit keys first
+    public synchronized List<String> hottest(int limit) {
+        List<String> hottest = new ArrayList<>(Math.min(limit, counts.size()));
+        for (Set<String> keys : byCount.descendingMap().values()) {
+            for (String key : keys) {
+                if (hottest.size() == limit) {
+                    return hottest;
+                }
+                hottest.add(key);
+            }
+        }
+        return hottest;
+    }
+}
@@ -0,0 +1,74 @@
+package com.bash.Event.ticketing.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+// Stand-in L2 for tests and single-JVM setups: one map that several cache managers can share.
+@Component
+@ConditionalOnProperty(name = "app.cache.l2", havingValue = "in-memory")
+public class InMemorySharedCache implements SharedCache {
+
+    private final Map<String, Map<String, Entry>> caches = new ConcurrentHashMap<>();
+    private final LongSupplier clock;
+
+    public InMemorySharedCache() {
+        this(System::currentTimeMillis);
+    }
+
+    InMemorySharedCache(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public Object get(String cacheName, String key) {
+        Map<String, Entry> entries = caches.get(cacheName);
+        Entry entry = entries != null ? entries.get(key) : null;
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() <= clock.getAsLong()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    @Override
+    public void put(String cacheName, String key, Object value, Duration timeToLive) {
+        caches.computeIfAbsent(cacheName, name -> new ConcurrentHashMap<>())
+                .put(key, new Entry(value, clock.getAsLong() + timeToLive.toMillis()));
+    }
+
+    @Override
+    public void evict(String cacheName, String key) {
+        Map<String, Entry> entries = caches.get(cacheName);
+        if (entries != null) {
+            entries.remove(key);
+        }
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        caches.remove(cacheName);
+    }
+
+    @Override
+    public void evictAll(Collection<CacheInvalidation.Entry> entries) {
+        for (CacheInvalidation.Entry entry : entries) {
+            if (entry.key() == null) {
+                clear(entry.cacheName());
+            } else {
+                evict(entry.cacheName(), entry.key());
+            }
+        }
+    }
+
+    private record Entry(Object value, long expiresAt) {
+    }
+}
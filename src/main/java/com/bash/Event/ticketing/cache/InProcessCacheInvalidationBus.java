@@ -0,0 +1,26 @@
+package com.bash.Event.ticketing.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// Single-node bus: delivers straight to the local listeners. Also the stand-in for tests.
+@Component
+@ConditionalOnProperty(name = "app.cache.bus", havingValue = "in-process", matchIfMissing = true)
+public class InProcessCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        listeners.forEach(listener -> listener.accept(invalidation));
+    }
+
+    @Override
+    public void addListener(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,48 @@
+package com.bash.Event.ticketing.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+// Ids recently looked up and not found, so repeated lookups of unknown ids (bots, stale links,
+// enumeration) are answered with a 404 without touching the database. Ids are random UUIDs that
+// are never reused, so a missing id cannot appear later and nothing needs evicting on create.
+// Kept per node and out of L2, where a lookup would cost the database round trip it saves, and
+// checked by the controllers ahead of the cached and transactional service calls for the same reason.
+@Component
+public class MissingIdCache {
+
+    private final Cache<String, Boolean> missing;
+
+    public MissingIdCache(@Value("${app.cache.missing-ids.max-entries:100000}") long maxEntries,
+                          @Value("${app.cache.missing-ids.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.missing = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+    }
+
+    public static String eventKey(UUID eventId) {
+        return "event:" + eventId;
+    }
+
+    public static String ticketKey(UUID ticketId) {
+        return "ticket:" + ticketId;
+    }
+
+    public boolean isMissing(String key) {
+        return missing.getIfPresent(key) != null;
+    }
+
+    public void recordMissing(String key) {
+        missing.put(key, Boolean.TRUE);
+    }
+
+    public long size() {
+        return missing.estimatedSize();
+    }
+}
@@ -0,0 +1,63 @@
+package com.bash.Event.ticketing.cache;
+
+import com.bash.Event.ticketing.config.CachingProperties;
+import com.bash.Event.ticketing.notify.PostgresNotifyBus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+
+// Multi-node invalidation bus over PostgreSQL LISTEN/NOTIFY.
+@Component
+@ConditionalOnProperty(name = "app.cache.bus", havingValue = "postgres")
+@Slf4j
+public class PostgresCacheInvalidationBus extends PostgresNotifyBus<CacheInvalidation> implements CacheInvalidationBus {
+
+    // Origin used for the clear-everything message after a reconnect
+    static final String RECONNECT_ORIGIN = "reconnect";
+
+    @Autowired
+    public PostgresCacheInvalidationBus(DataSource dataSource, DataSourceProperties dataSourceProperties,
+                                        ObjectMapper objectMapper, CachingProperties cachingProperties) {
+        this(dataSource, listenDataSource(dataSourceProperties), objectMapper, cachingProperties);
+    }
+
+    PostgresCacheInvalidationBus(DataSource dataSource, DataSource listenDataSource, ObjectMapper objectMapper,
+                                 CachingProperties cachingProperties) {
+        super("CacheBusListener", dataSource, listenDataSource, objectMapper, cachingProperties.getNotifyChannel(),
+                CacheInvalidation.class);
+    }
+
+    // Keys too long for one NOTIFY clear the caches they belong to instead
+    @Override
+    protected CacheInvalidation oversized(CacheInvalidation invalidation) {
+        List<CacheInvalidation.Entry> clears = invalidation.entries().stream()
+                .map(CacheInvalidation.Entry::cacheName)
+                .distinct()
+                .map(cacheName -> new CacheInvalidation.Entry(cacheName, null))
+                .toList();
+        if (clears.stream().anyMatch(entry -> entry.cacheName() == null)) {
+            return CacheInvalidation.clear(invalidation.origin(), null);
+        }
+        return new CacheInvalidation(invalidation.origin(), clears);
+    }
+
+    // Invalidations sent while we were disconnected are gone, so every L1 is cleared
+    @Override
+    protected CacheInvalidation reconnected() {
+        return CacheInvalidation.clear(RECONNECT_ORIGIN, null);
+    }
+
+    // The publisher has already dropped its own entry; other nodes fall back to the TTL
+    @Override
+    protected void publishFailed(CacheInvalidation invalidation, SQLException e) {
+        log.error("Failed to publish invalidation of {} entries on channel {}", invalidation.entries().size(),
+                getChannel(), e);
+    }
+}
@@ -0,0 +1,163 @@
+package com.bash.Event.ticketing.cache;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// Shared L2 in an unlogged PostgreSQL table: no WAL cost, and losing it on a crash only costs
+// misses. Values are Java-serialized; reads accept only the classes cached responses are built from.
+@Component
+@ConditionalOnProperty(name = "app.cache.l2", havingValue = "postgres")
+@Slf4j
+public class PostgresSharedCache implements SharedCache {
+
+    static final int MAX_KEY_LENGTH = 500;
+
+    private static final ObjectInputFilter ALLOWED_CLASSES = ObjectInputFilter.Config.createFilter(
+            "maxdepth=64;com.bash.Event.ticketing.**;org.springframework.data.domain.**;"
+                    + "org.springframework.cache.support.NullValue;java.lang.*;java.util.*;java.time.*;java.math.*;!*");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostgresSharedCache(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void createTable() {
+        jdbcTemplate.execute("""
+                CREATE UNLOGGED TABLE IF NOT EXISTS app_cache_entry (
+                    cache_name VARCHAR(100) NOT NULL,
+                    cache_key VARCHAR(500) NOT NULL,
+                    payload BYTEA NOT NULL,
+                    expires_at TIMESTAMPTZ NOT NULL,
+                    PRIMARY KEY (cache_name, cache_key)
+                )""");
+    }
+
+    @Override
+    public Object get(String cacheName, String key) {
+        try {
+            List<byte[]> payloads = jdbcTemplate.query(
+                    "SELECT payload FROM app_cache_entry WHERE cache_name = ? AND cache_key = ? AND expires_at > now()",
+                    (rs, rowNum) -> rs.getBytes(1), cacheName, key);
+            return payloads.isEmpty() ? null : decode(payloads.get(0));
+        } catch (DataAccessException e) {
+            log.warn("Shared cache read of {} failed, treating as a miss", cacheName, e);
+            return null;
+        }
+    }
+
+    @Override
+    public void put(String cacheName, String key, Object value, Duration timeToLive) {
+        if (key.length() > MAX_KEY_LENGTH) {
+            return;
+        }
+        byte[] payload = encode(value);
+        if (payload == null) {
+            return;
+        }
+        try {
+            jdbcTemplate.update("""
+                    INSERT INTO app_cache_entry (cache_name, cache_key, payload, expires_at)
+                    VALUES (?, ?, ?, now() + make_interval(secs => ?))
+                    ON CONFLICT (cache_name, cache_key)
+                    DO UPDATE SET payload = EXCLUDED.payload, expires_at = EXCLUDED.expires_at""",
+                    cacheName, key, payload, timeToLive.toMillis() / 1000.0);
+        } catch (DataAccessException e) {
+            log.warn("Shared cache write of {} failed", cacheName, e);
+        }
+    }
+
+    @Override
+    public void evict(String cacheName, String key) {
+        try {
+            jdbcTemplate.update("DELETE FROM app_cache_entry WHERE cache_name = ? AND cache_key = ?", cacheName, key);
+        } catch (DataAccessException e) {
+            // Other nodes may read the stale entry until it expires
+            log.error("Shared cache eviction of {} in {} failed", key, cacheName, e);
+        }
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        try {
+            jdbcTemplate.update("DELETE FROM app_cache_entry WHERE cache_name = ?", cacheName);
+        } catch (DataAccessException e) {
+            log.error("Shared cache clear of {} failed", cacheName, e);
+        }
+    }
+
+    // One statement for the whole batch, however many keys a commit made stale
+    @Override
+    public void evictAll(Collection<CacheInvalidation.Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        List<String> conditions = new ArrayList<>(entries.size());
+        List<Object> args = new ArrayList<>(entries.size() * 2);
+        for (CacheInvalidation.Entry entry : entries) {
+            args.add(entry.cacheName());
+            if (entry.key() == null) {
+                conditions.add("cache_name = ?");
+            } else {
+                conditions.add("(cache_name = ? AND cache_key = ?)");
+                args.add(entry.key());
+            }
+        }
+        try {
+            jdbcTemplate.update("DELETE FROM app_cache_entry WHERE " + String.join(" OR ", conditions), args.toArray());
+        } catch (DataAccessException e) {
+            log.error("Shared cache eviction of {} entries failed", entries.size(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.l2-purge-interval:5m}")
+    public void purgeExpired() {
+        try {
+            int purged = jdbcTemplate.update("DELETE FROM app_cache_entry WHERE expires_at <= now()");
+            if (purged > 0) {
+                log.debug("Purged {} expired shared cache entries", purged);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Shared cache purge failed", e);
+        }
+    }
+
+    // Null when the value cannot be serialized; it then stays in L1 only
+    static byte[] encode(Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        } catch (IOException e) {
+            log.debug("Value of type {} is not shareable, keeping it local", value.getClass().getName(), e);
+            return null;
+        }
+        return bytes.toByteArray();
+    }
+
+    static Object decode(byte[] payload) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(payload))) {
+            in.setObjectInputFilter(ALLOWED_CLASSES);
+            return in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            log.warn("Ignoring unreadable shared cache entry", e);
+            return null;
+        }
+    }
+}
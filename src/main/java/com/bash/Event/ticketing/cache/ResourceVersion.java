@@ -0,0 +1,8 @@
+package com.bash.Event.ticketing.cache;
+
+import java.io.Serializable;
+
+// Validators for one cached representation: a strong ETag and a Last-Modified time in epoch
+// millis, already rounded up to whole seconds as HTTP dates are compared
+public record ResourceVersion(String etag, long lastModified) implements Serializable {
+}
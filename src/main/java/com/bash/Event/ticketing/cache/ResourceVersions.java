@@ -0,0 +1,86 @@
+package com.bash.Event.ticketing.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+// Remembers the validators of representations already served, so a conditional GET can be
+// answered with a 304 from this small map without loading or serializing anything. Entries live
+// in the versions cache and are evicted with the data they describe, on every node.
+@Component
+public class ResourceVersions {
+
+    private static final int ETAG_BYTES = 16;
+
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+    private final LongSupplier clock;
+
+    @Autowired
+    public ResourceVersions(CacheManager cacheManager, ObjectMapper objectMapper) {
+        this(cacheManager, objectMapper, System::currentTimeMillis);
+    }
+
+    ResourceVersions(CacheManager cacheManager, ObjectMapper objectMapper, LongSupplier clock) {
+        this.cacheManager = cacheManager;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    public static String eventKey(UUID eventId) {
+        return "event:" + eventId;
+    }
+
+    public static String ticketsKey(UUID eventId) {
+        return "tickets:" + eventId;
+    }
+
+    public ResourceVersion get(String key) {
+        return versions().get(key, ResourceVersion.class);
+    }
+
+    // The ETag hashes the representation itself, so every node derives the same one. Without a
+    // known modification time the first time this content was seen is used; that is never earlier
+    // than the change that produced it, so If-Modified-Since can give a spurious 200 but no stale 304.
+    public ResourceVersion record(String key, Object representation, Long lastModified) {
+        String etag = etag(representation);
+        ResourceVersion known = get(key);
+        if (known != null && known.etag().equals(etag)) {
+            return known;
+        }
+        ResourceVersion version = new ResourceVersion(etag, roundUpToSecond(lastModified != null ? lastModified : clock.getAsLong()));
+        versions().put(key, version);
+        return version;
+    }
+
+    private String etag(Object representation) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(representation));
+            return "\"" + HexFormat.of().formatHex(Arrays.copyOf(digest, ETAG_BYTES)) + "\"";
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not compute ETag", e);
+        }
+    }
+
+    private Cache versions() {
+        Cache cache = cacheManager.getCache(CacheNames.VERSIONS);
+        if (cache == null) {
+            throw new IllegalStateException("Cache " + CacheNames.VERSIONS + " is not configured");
+        }
+        return cache;
+    }
+
+    private static long roundUpToSecond(long millis) {
+        return (millis + 999) / 1000 * 1000;
+    }
+}
@@ -0,0 +1,166 @@
+package com.bash.Event.ticketing.cache;
+
+import com.bash.Event.ticketing.event.service.TrendingService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Serves anonymous GETs of the public catalog from fully rendered responses, ahead of the security
+// chain, so a hit is one byte-array write with no controller, service cache or Jackson work.
+// Entries are evicted by CacheInvalidationListener along with the service caches they render.
+// Requests with credentials, an Origin (CORS is decided per origin by the security chain) or
+// conditional headers (answered cheaply by the controller's version check) always pass through.
+@RequiredArgsConstructor
+@Slf4j
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final String UUID_PATTERN = "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}";
+    private static final Pattern EVENT_PATH = Pattern.compile("/api/v1/events/(" + UUID_PATTERN + ")");
+    private static final Pattern TICKETS_PATH = Pattern.compile("/api/v1/events/(" + UUID_PATTERN + ")/tickets");
+    private static final String EVENTS_PATH = "/api/v1/events";
+
+    // Defaults of the listing's request parameters, so equivalent URLs share one entry
+    private static final int DEFAULT_PAGE = 0;
+    private static final int DEFAULT_SIZE = 10;
+
+    // Per-connection or per-response headers that must not be replayed
+    private static final Set<String> SKIPPED_HEADERS = Set.of(
+            HttpHeaders.SET_COOKIE.toLowerCase(), HttpHeaders.CONTENT_LENGTH.toLowerCase(),
+            HttpHeaders.TRANSFER_ENCODING.toLowerCase(), HttpHeaders.DATE.toLowerCase(),
+            HttpHeaders.CONNECTION.toLowerCase());
+
+    private final CacheManager cacheManager;
+    private final TrendingService trendingService;
+
+    public static String pageKey(int page, int size) {
+        return page + "_" + size;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Route route = isCacheable(request) ? route(request) : null;
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        CachedResponse cached = route.cache.get(route.key, CachedResponse.class);
+        if (cached != null) {
+            write(cached, response);
+            if (route.viewedEventId != null) {
+                trendingService.recordView(route.viewedEventId);
+            }
+            return;
+        }
+        // Taken before rendering, so an eviction that lands while the response renders is noticed
+        long generation = route.cache.generation(route.key);
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, wrapper);
+            if (wrapper.getStatus() == HttpServletResponse.SC_OK) {
+                store(route, capture(wrapper), generation);
+            }
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private static boolean isCacheable(HttpServletRequest request) {
+        return "GET".equals(request.getMethod())
+                && request.getHeader(HttpHeaders.AUTHORIZATION) == null
+                && request.getHeader(HttpHeaders.ORIGIN) == null
+                && request.getHeader(HttpHeaders.IF_NONE_MATCH) == null
+                && request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) == null;
+    }
+
+    private Route route(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (EVENTS_PATH.equals(path)) {
+            Integer page = intParameter(request, "page", DEFAULT_PAGE);
+            Integer size = intParameter(request, "size", DEFAULT_SIZE);
+            // Anything the controller would reject is left for it to reject
+            if (page == null || size == null || page < 0 || size < 1) {
+                return null;
+            }
+            return route(CacheNames.RESPONSE_PAGES, pageKey(page, size), null);
+        }
+        Matcher event = EVENT_PATH.matcher(path);
+        if (event.matches()) {
+            UUID eventId = UUID.fromString(event.group(1));
+            // Hits still count as views, as they do when the controller serves them
+            return route(CacheNames.RESPONSES, ResourceVersions.eventKey(eventId), eventId);
+        }
+        Matcher tickets = TICKETS_PATH.matcher(path);
+        if (tickets.matches()) {
+            return route(CacheNames.RESPONSES, ResourceVersions.ticketsKey(UUID.fromString(tickets.group(1))), null);
+        }
+        return null;
+    }
+
+    // Only two-level caches track the evictions a rendering has to be checked against
+    private Route route(String cacheName, String key, UUID viewedEventId) {
+        Cache cache = cacheManager.getCache(cacheName);
+        return cache instanceof TwoLevelCache twoLevelCache ? new Route(twoLevelCache, key, viewedEventId) : null;
+    }
+
+    // Never replaces an entry rendered by a later request, and takes back its own entry if the key
+    // was evicted after rendering began, as the rendering may show the state before that write
+    private static void store(Route route, CachedResponse response, long generation) {
+        if (route.cache.putIfAbsent(route.key, response) == null
+                && route.cache.generation(route.key) != generation) {
+            route.cache.evict(route.key);
+        }
+    }
+
+    private static Integer intParameter(HttpServletRequest request, String name, int defaultValue) {
+        String value = request.getParameter(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static CachedResponse capture(ContentCachingResponseWrapper wrapper) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : wrapper.getHeaderNames()) {
+            if (!SKIPPED_HEADERS.contains(name.toLowerCase())) {
+                headers.put(name, List.copyOf(wrapper.getHeaders(name)));
+            }
+        }
+        if (wrapper.getContentType() != null) {
+            headers.put(HttpHeaders.CONTENT_TYPE, List.of(wrapper.getContentType()));
+        }
+        return new CachedResponse(headers, wrapper.getContentAsByteArray());
+    }
+
+    private static void write(CachedResponse cached, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        cached.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        response.setContentLength(cached.body().length);
+        response.getOutputStream().write(cached.body());
+    }
+
+    private record Route(TwoLevelCache cache, String key, UUID viewedEventId) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.bash.Event.ticketing.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Weigher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.NullValue;
+
+// Weighs an entry by its JSON size, a stable proxy for heap use that grows with page size and
+// field contents. Computed once per write; cached values are read far more often than written.
+@Slf4j
+public class SerializedSizeWeigher implements Weigher<Object, Object> {
+
+    // Entry, key and wrapper objects that the JSON length does not account for
+    static final int ENTRY_OVERHEAD = 64;
+    // Used when a value cannot be serialized
+    static final int FALLBACK_WEIGHT = 1024;
+
+    private final ObjectMapper objectMapper;
+
+    public SerializedSizeWeigher(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public int weigh(Object key, Object value) {
+        if (value == null || value instanceof NullValue) {
+            return ENTRY_OVERHEAD;
+        }
+        try {
+            long size = (long) objectMapper.writeValueAsBytes(value).length + ENTRY_OVERHEAD;
+            return (int) Math.min(size, Integer.MAX_VALUE);
+        } catch (JsonProcessingException e) {
+            log.debug("Could not weigh cached value for key {}, using {} bytes", key, FALLBACK_WEIGHT, e);
+            return FALLBACK_WEIGHT;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.bash.Event.ticketing.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+
+// Second-level cache shared by every node. Values are held in their stored form, so a cached null
+// comes back as NullValue and a miss as null. Failures are treated as misses: L2 only saves work.
+public interface SharedCache {
+
+    Object get(String cacheName, String key);
+
+    void put(String cacheName, String key, Object value, Duration timeToLive);
+
+    void evict(String cacheName, String key);
+
+    void clear(String cacheName);
+
+    // Evicts every entry, and clears every cache named by an entry with a null key, in one go
+    void evictAll(Collection<CacheInvalidation.Entry> entries);
+}
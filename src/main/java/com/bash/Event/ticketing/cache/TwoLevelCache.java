@@ -0,0 +1,271 @@
+package com.bash.Event.ticketing.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// Caffeine L1 in front of an optional shared L2. Reads fall through L1 -> L2 -> loader and fill the
+// levels above; evictions clear both levels and are broadcast so every other node drops its L1
+// copy. Keys are normalized to strings so they mean the same thing on every node and in L2.
+@Slf4j
+public class TwoLevelCache extends CaffeineCache {
+
+    private static final int GENERATION_STRIPES = 64;
+    // Keys whose hits are counted for the admin endpoint; enough to rank its largest top-keys request
+    private static final int TRACKED_HOT_KEYS = 256;
+
+    private final SharedCache sharedCache;
+    private final CacheInvalidationBus invalidationBus;
+    private final String nodeId;
+    private final Duration timeToLive;
+    private final Duration refreshAfterWrite;
+    private final Executor refreshExecutor;
+    // The calling thread's open eviction batch, or null to evict straight away
+    private final Supplier<List<CacheInvalidation.Entry>> evictionBatch;
+    // Keys with a background reload in flight, so a hot key is reloaded once rather than per hit
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    // Keys with a sync-mode load running, so callers can tell whether theirs was shared
+    private final Set<String> loading = ConcurrentHashMap.newKeySet();
+    private final LongAdder coalescedLoads = new LongAdder();
+    private final HotKeyTracker hotKeys = new HotKeyTracker(TRACKED_HOT_KEYS);
+    // Advanced before every eviction, local or another node's, so a value computed outside the
+    // cache can be checked for an eviction that landed meanwhile. Striped to stay bounded: keys
+    // sharing a stripe only see each other's evictions as extra changes.
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public TwoLevelCache(String name, Cache<Object, Object> localCache, boolean allowNullValues, SharedCache sharedCache,
+                         CacheInvalidationBus invalidationBus, String nodeId, Duration timeToLive,
+                         Duration refreshAfterWrite, Executor refreshExecutor,
+                         Supplier<List<CacheInvalidation.Entry>> evictionBatch) {
+        super(name, localCache, allowNullValues);
+        this.sharedCache = sharedCache;
+        this.invalidationBus = invalidationBus;
+        this.nodeId = nodeId;
+        this.timeToLive = timeToLive;
+        this.refreshAfterWrite = refreshAfterWrite;
+        this.refreshExecutor = refreshExecutor;
+        this.evictionBatch = evictionBatch;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String cacheKey = cacheKey(key);
+        Object value = super.lookup(cacheKey);
+        if (value == null && sharedCache != null) {
+            value = sharedCache.get(getName(), cacheKey);
+            if (value != null) {
+                getNativeCache().put(cacheKey, value);
+            }
+        }
+        if (value != null) {
+            hotKeys.recordHit(cacheKey);
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String cacheKey = cacheKey(key);
+        // Concurrent misses on a key block on the one compute in flight instead of each loading;
+        // a caller that arrived while that load was running and did not load itself shared it
+        boolean loadInFlight = loading.contains(cacheKey);
+        AtomicBoolean loaded = new AtomicBoolean();
+        Object stored = getNativeCache().get(cacheKey, k -> {
+            loaded.set(true);
+            loading.add(cacheKey);
+            try {
+                return load(cacheKey, valueLoader);
+            } finally {
+                loading.remove(cacheKey);
+            }
+        });
+        if (loadInFlight && !loaded.get()) {
+            coalescedLoads.increment();
+        }
+        if (!loaded.get()) {
+            hotKeys.recordHit(cacheKey);
+        }
+        if (refreshAfterWrite != null) {
+            refreshIfAging(cacheKey, stored, valueLoader);
+        }
+        return (T) fromStoreValue(stored);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String cacheKey = cacheKey(key);
+        super.put(cacheKey, value);
+        putShared(cacheKey, toStoreValue(value));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        String cacheKey = cacheKey(key);
+        ValueWrapper existing = super.putIfAbsent(cacheKey, value);
+        if (existing == null) {
+            putShared(cacheKey, toStoreValue(value));
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictIfPresent(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        String cacheKey = cacheKey(key);
+        List<CacheInvalidation.Entry> batch = evictionBatch.get();
+        if (batch != null) {
+            // The manager evicts it from every level when the batch closes
+            batch.add(new CacheInvalidation.Entry(getName(), cacheKey));
+            return getNativeCache().asMap().containsKey(cacheKey);
+        }
+        advanceGeneration(cacheKey);
+        boolean present = super.evictIfPresent(cacheKey);
+        if (sharedCache != null) {
+            sharedCache.evict(getName(), cacheKey);
+        }
+        invalidationBus.publish(CacheInvalidation.of(nodeId, getName(), cacheKey));
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        invalidate();
+    }
+
+    @Override
+    public boolean invalidate() {
+        List<CacheInvalidation.Entry> batch = evictionBatch.get();
+        if (batch != null) {
+            batch.add(new CacheInvalidation.Entry(getName(), null));
+            return !getNativeCache().asMap().isEmpty();
+        }
+        advanceGenerations();
+        boolean notEmpty = super.invalidate();
+        if (sharedCache != null) {
+            sharedCache.clear(getName());
+        }
+        invalidationBus.publish(CacheInvalidation.clear(nodeId, getName()));
+        return notEmpty;
+    }
+
+    // Changes whenever the key is evicted or the cache cleared, on this node or any other
+    public long generation(Object key) {
+        return generations.get(stripe(cacheKey(key)));
+    }
+
+    // Keys with the most hits, most-hit first
+    public List<String> getHottestKeys(int limit) {
+        return hotKeys.hottest(limit);
+    }
+
+    // Misses served by another caller's in-flight load rather than a load of their own
+    public long getCoalescedLoadCount() {
+        return coalescedLoads.sum();
+    }
+
+    // Applies another node's eviction to L1 only; L2 was already cleared by that node
+    void invalidateLocal(String key) {
+        advanceGeneration(key);
+        if (key == null) {
+            getNativeCache().invalidateAll();
+        } else {
+            getNativeCache().invalidate(key);
+        }
+    }
+
+    // A null key advances the generation of every key in the cache
+    void advanceGeneration(String cacheKey) {
+        if (cacheKey == null) {
+            advanceGenerations();
+        } else {
+            generations.incrementAndGet(stripe(cacheKey));
+        }
+    }
+
+    // On a hit the sync-mode loader has not run yet, so it can still reload this entry later and on
+    // another thread. The caller gets the current value; the reload replaces it only if nothing has
+    // evicted or rewritten it meanwhile, so an eviction racing the reload is never undone.
+    // Reloaded values stay local: writing them to L2 could outlive another node's eviction.
+    private void refreshIfAging(String cacheKey, Object stored, Callable<?> valueLoader) {
+        Optional<Duration> age = getNativeCache().policy().expireAfterWrite()
+                .flatMap(expiration -> expiration.ageOf(cacheKey));
+        if (age.isEmpty() || age.get().compareTo(refreshAfterWrite) < 0 || !refreshing.add(cacheKey)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    getNativeCache().asMap().replace(cacheKey, stored, toStoreValue(valueLoader.call()));
+                } catch (Exception e) {
+                    log.warn("Refresh of {} in cache {} failed, serving the current value until it expires",
+                            cacheKey, getName(), e);
+                } finally {
+                    refreshing.remove(cacheKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(cacheKey);
+            log.debug("Refresh queue full, skipping refresh of {} in cache {}", cacheKey, getName());
+        }
+    }
+
+    private Object load(String cacheKey, Callable<?> valueLoader) {
+        if (sharedCache != null) {
+            Object shared = sharedCache.get(getName(), cacheKey);
+            if (shared != null) {
+                return shared;
+            }
+        }
+        // A load that read the database before an eviction must not outlive it in L2, where every
+        // node would serve it for the full TTL; L1 is cleared by the eviction itself
+        long generation = generation(cacheKey);
+        Object value;
+        try {
+            value = toStoreValue(valueLoader.call());
+        } catch (Exception e) {
+            throw new ValueRetrievalException(cacheKey, valueLoader, e);
+        }
+        if (generation(cacheKey) == generation) {
+            putShared(cacheKey, value);
+        }
+        return value;
+    }
+
+    private void putShared(String cacheKey, Object storeValue) {
+        if (sharedCache != null) {
+            sharedCache.put(getName(), cacheKey, storeValue, timeToLive);
+        }
+    }
+
+    private void advanceGenerations() {
+        for (int i = 0; i < GENERATION_STRIPES; i++) {
+            generations.incrementAndGet(i);
+        }
+    }
+
+    private static int stripe(String cacheKey) {
+        return Math.floorMod(cacheKey.hashCode(), GENERATION_STRIPES);
+    }
+
+    static String cacheKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,104 @@
+package com.bash.Event.ticketing.cache;
+
+import com.bash.Event.ticketing.config.CachingProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+// Builds every cache as a TwoLevelCache and applies invalidations broadcast by other nodes.
+// Without a shared cache it is a plain Caffeine manager whose evictions still reach every node.
+@Slf4j
+public class TwoLevelCacheManager extends CaffeineCacheManager {
+
+    private final SharedCache sharedCache;
+    private final CacheInvalidationBus invalidationBus;
+    private final Function<String, CachingProperties.Spec> specs;
+    private final Executor refreshExecutor;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ThreadLocal<List<CacheInvalidation.Entry>> evictionBatch = new ThreadLocal<>();
+
+    public TwoLevelCacheManager(SharedCache sharedCache, CacheInvalidationBus invalidationBus,
+                                Function<String, CachingProperties.Spec> specs, Executor refreshExecutor) {
+        this.sharedCache = sharedCache;
+        this.invalidationBus = invalidationBus;
+        this.specs = specs;
+        this.refreshExecutor = refreshExecutor;
+        invalidationBus.addListener(this::onInvalidation);
+    }
+
+    @Override
+    protected org.springframework.cache.Cache adaptCaffeineCache(String name, Cache<Object, Object> cache) {
+        CachingProperties.Spec spec = specs.apply(name);
+        return new TwoLevelCache(name, cache, isAllowNullValues(), sharedCache, invalidationBus, nodeId,
+                spec.getExpireAfterWrite(), spec.getRefreshAfterWrite(), refreshExecutor, evictionBatch::get);
+    }
+
+    // Runs the evictions with their L2 deletes and broadcasts held back, then sends them together
+    // as one shared-cache delete and one message. Nested batches join the outer one.
+    public void batchEvictions(Runnable evictions) {
+        if (evictionBatch.get() != null) {
+            evictions.run();
+            return;
+        }
+        List<CacheInvalidation.Entry> batch = new ArrayList<>();
+        evictionBatch.set(batch);
+        try {
+            evictions.run();
+        } finally {
+            evictionBatch.remove();
+            evict(batch);
+        }
+    }
+
+    @Override
+    protected org.springframework.cache.Cache createCaffeineCache(String name) {
+        // Metrics are bound at startup, so a cache first created here is never metered
+        log.warn("Cache '{}' has no entry in app.cache.specs; using defaults without metrics", name);
+        return super.createCaffeineCache(name);
+    }
+
+    // Whether other nodes see this node's entries, through the shared level or a bus that leaves
+    // the node; node-local bookkeeping about what is cached is then incomplete
+    public boolean isClustered() {
+        return sharedCache != null || !(invalidationBus instanceof InProcessCacheInvalidationBus);
+    }
+
+    // Same order as a single eviction: generations first, so nothing computed before the batch is
+    // stored afterwards, then L2, then L1 in the order the keys were evicted
+    private void evict(List<CacheInvalidation.Entry> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        batch.forEach(entry -> cache(entry.cacheName()).advanceGeneration(entry.key()));
+        if (sharedCache != null) {
+            sharedCache.evictAll(batch);
+        }
+        batch.forEach(entry -> cache(entry.cacheName()).invalidateLocal(entry.key()));
+        invalidationBus.publish(new CacheInvalidation(nodeId, List.copyOf(batch)));
+    }
+
+    private TwoLevelCache cache(String name) {
+        return (TwoLevelCache) getCache(name);
+    }
+
+    private void onInvalidation(CacheInvalidation invalidation) {
+        if (nodeId.equals(invalidation.origin())) {
+            return;
+        }
+        for (CacheInvalidation.Entry entry : invalidation.entries()) {
+            for (String name : getCacheNames()) {
+                // Never creates a cache this node has not used
+                if ((entry.cacheName() == null || entry.cacheName().equals(name))
+                        && getCache(name) instanceof TwoLevelCache cache) {
+                    cache.invalidateLocal(entry.key());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.bash.Event.ticketing.cache.controller;
+
+import com.bash.Event.ticketing.cache.dto.CacheStatsResponse;
+import com.bash.Event.ticketing.cache.service.CacheAdminService;
+import com.bash.Event.ticketing.event.dto.response.MessageResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/caches")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class CacheAdminController {
+
+    private final CacheAdminService cacheAdminService;
+
+    @GetMapping
+    public ResponseEntity<MessageResponse<List<CacheStatsResponse>>> getAllCacheStats() {
+        return ResponseEntity.ok(MessageResponse.success("Cache statistics retrieved", cacheAdminService.getAllCacheStats()));
+    }
+
+    @GetMapping("/{cacheName}")
+    public ResponseEntity<MessageResponse<CacheStatsResponse>> getCacheStats(@PathVariable String cacheName,
+                                                                              @RequestParam(defaultValue = "20") int topKeys) {
+        return ResponseEntity.ok(MessageResponse.success("Cache statistics retrieved",
+                cacheAdminService.getCacheStats(cacheName, topKeys)));
+    }
+}
@@ -0,0 +1,27 @@
+package com.bash.Event.ticketing.cache.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class CacheStatsResponse {
+    private String name;
+    private Long size;
+    // Approximate serialized bytes held, against the configured maximum
+    private Long weightedSize;
+    private Long maximumWeight;
+    private Long hitCount;
+    private Long missCount;
+    private Double hitRate;
+    private Long evictionCount;
+    private Long evictionWeight;
+    private Long loadCount;
+    private Double averageLoadMillis;
+    // Misses that waited on another caller's load of the same key instead of loading it again
+    private Long coalescedLoads;
+    // Most frequently accessed keys first, as ranked by the cache's own frequency sketch
+    private List<String> topKeys;
+}
@@ -0,0 +1,10 @@
+package com.bash.Event.ticketing.cache.service;
+
+import com.bash.Event.ticketing.cache.dto.CacheStatsResponse;
+
+import java.util.List;
+
+public interface CacheAdminService {
+    List<CacheStatsResponse> getAllCacheStats();
+    CacheStatsResponse getCacheStats(String cacheName, int topKeys);
+}
@@ -0,0 +1,74 @@
+package com.bash.Event.ticketing.cache.service.impl;
+
+import com.bash.Event.ticketing.Exceptions.CacheNotFoundException;
+import com.bash.Event.ticketing.cache.TwoLevelCache;
+import com.bash.Event.ticketing.cache.dto.CacheStatsResponse;
+import com.bash.Event.ticketing.cache.service.CacheAdminService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class CacheAdminServiceImpl implements CacheAdminService {
+
+    private static final int MAX_TOP_KEYS = 100;
+
+    private final CacheManager cacheManager;
+
+    @Override
+    public List<CacheStatsResponse> getAllCacheStats() {
+        return cacheManager.getCacheNames().stream()
+                .sorted()
+                .map(name -> toResponse(name, caffeineCache(name), 0))
+                .toList();
+    }
+
+    @Override
+    public CacheStatsResponse getCacheStats(String cacheName, int topKeys) {
+        int limit = Math.max(0, Math.min(topKeys, MAX_TOP_KEYS));
+        return toResponse(cacheName, caffeineCache(cacheName), limit);
+    }
+
+    // Only caches that already exist; looking one up by name must not create it
+    private CaffeineCache caffeineCache(String cacheName) {
+        if (!cacheManager.getCacheNames().contains(cacheName)
+                || !(cacheManager.getCache(cacheName) instanceof CaffeineCache caffeineCache)) {
+            throw new CacheNotFoundException("Cache not found: " + cacheName);
+        }
+        return caffeineCache;
+    }
+
+    private static CacheStatsResponse toResponse(String name, CaffeineCache caffeineCache, int topKeys) {
+        Cache<Object, Object> cache = caffeineCache.getNativeCache();
+        CacheStats stats = cache.stats();
+        Optional<Policy.Eviction<Object, Object>> eviction = cache.policy().eviction();
+        Optional<Policy.Eviction<Object, Object>> weighted = eviction.filter(Policy.Eviction::isWeighted);
+        // Counted from actual hits; Caffeine's own frequency sketch only runs once a cache is half full
+        List<String> hottest = topKeys > 0 && caffeineCache instanceof TwoLevelCache twoLevelCache
+                ? twoLevelCache.getHottestKeys(topKeys) : List.of();
+        return CacheStatsResponse.builder()
+                .name(name)
+                .size(cache.estimatedSize())
+                .weightedSize(weighted.map(policy -> policy.weightedSize().orElse(0)).orElse(null))
+                .maximumWeight(weighted.map(Policy.Eviction::getMaximum).orElse(null))
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .evictionWeight(stats.evictionWeight())
+                .loadCount(stats.loadCount())
+                .averageLoadMillis(stats.averageLoadPenalty() / 1_000_000.0)
+                .coalescedLoads(caffeineCache instanceof TwoLevelCache twoLevelCache
+                        ? twoLevelCache.getCoalescedLoadCount() : null)
+                .topKeys(hottest)
+                .build();
+    }
+}
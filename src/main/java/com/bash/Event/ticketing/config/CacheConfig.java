@@ -1,32 +1,111 @@
 package com.bash.Event.ticketing.config;
 
+import com.bash.Event.ticketing.cache.CacheInvalidationBus;
+import com.bash.Event.ticketing.cache.ResponseCacheFilter;
+import com.bash.Event.ticketing.cache.SerializedSizeWeigher;
+import com.bash.Event.ticketing.cache.SharedCache;
+import com.bash.Event.ticketing.cache.TwoLevelCache;
+import com.bash.Event.ticketing.cache.TwoLevelCacheManager;
+import com.bash.Event.ticketing.event.service.TrendingService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Executor;
 
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CachingProperties.class)
 public class CacheConfig {
 
+    // Caches listed under app.cache.specs are built up front with their own bounds, which also
+    // registers them for per-cache actuator metrics (cache.gets, cache.evictions, ... tagged by name).
+    // Each is a Caffeine L1 over the shared L2 chosen by app.cache.l2, if any.
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        cacheManager.setCaffeine(caffeineCacheBuilder());
+    public CacheManager cacheManager(CachingProperties cachingProperties, ObjectMapper objectMapper,
+                                     ObjectProvider<SharedCache> sharedCache, CacheInvalidationBus invalidationBus,
+                                     @Qualifier("cacheRefreshExecutor") Executor refreshExecutor) {
+        SerializedSizeWeigher weigher = new SerializedSizeWeigher(objectMapper);
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(sharedCache.getIfAvailable(), invalidationBus,
+                cachingProperties::specFor, refreshExecutor);
+        cacheManager.setCaffeine(caffeineCacheBuilder(cachingProperties.getDefaults(), weigher));
+        cachingProperties.getSpecs().forEach((name, spec) ->
+                cacheManager.registerCustomCache(name, caffeineCacheBuilder(spec, weigher).build()));
         return cacheManager;
     }
 
+    // Ahead of Spring Security's filter chain, so cached public responses skip it entirely
     @Bean
-    public Caffeine<Object, Object> caffeineCacheBuilder() {
+    public FilterRegistrationBean<ResponseCacheFilter> responseCacheFilter(CacheManager cacheManager,
+                                                                           TrendingService trendingService) {
+        FilterRegistrationBean<ResponseCacheFilter> registration =
+                new FilterRegistrationBean<>(new ResponseCacheFilter(cacheManager, trendingService));
+        registration.addUrlPatterns("/api/v1/events", "/api/v1/events/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+    // Bounded so a burst of stale hot keys cannot pile up reloads against the database
+    @Bean(name = "cacheRefreshExecutor")
+    public Executor cacheRefreshExecutor(CachingProperties cachingProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(cachingProperties.getRefresh().getThreads());
+        executor.setMaxPoolSize(cachingProperties.getRefresh().getThreads());
+        executor.setQueueCapacity(cachingProperties.getRefresh().getQueueCapacity());
+        executor.setThreadNamePrefix("CacheRefresh-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public MeterBinder cacheWeightGauges(CacheManager cacheManager) {
+        return registry -> {
+            for (String name : cacheManager.getCacheNames()) {
+                Cache cache = cacheManager.getCache(name);
+                if (cache instanceof CaffeineCache caffeineCache) {
+                    Gauge.builder("cache.weight", caffeineCache, CacheConfig::weightedSize)
+                            .tag("cache", name)
+                            .description("Approximate serialized bytes held by the cache")
+                            .baseUnit("bytes")
+                            .register(registry);
+                }
+                if (cache instanceof TwoLevelCache twoLevelCache) {
+                    FunctionCounter.builder("cache.loads.coalesced", twoLevelCache, TwoLevelCache::getCoalescedLoadCount)
+                            .tag("cache", name)
+                            .description("Cache misses that waited for another caller's load instead of loading")
+                            .register(registry);
+                }
+            }
+        };
+    }
+
+    private static Caffeine<Object, Object> caffeineCacheBuilder(CachingProperties.Spec spec, SerializedSizeWeigher weigher) {
         return Caffeine.newBuilder()
-                .initialCapacity(100)
-                .maximumSize(500)
-                .expireAfterAccess(10, TimeUnit.MINUTES)
-                .expireAfterWrite(30, TimeUnit.MINUTES)
+                .maximumWeight(spec.getMaximumWeight().toBytes())
+                .weigher(weigher)
+                .expireAfterAccess(spec.getExpireAfterAccess())
+                .expireAfterWrite(spec.getExpireAfterWrite())
+                // Refresh-ahead is done by TwoLevelCache, which has the method invocation to reload with
                 .recordStats();
     }
-}
\ No newline at end of file
+
+    private static double weightedSize(CaffeineCache cache) {
+        return cache.getNativeCache().policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+}
@@ -0,0 +1,79 @@
+package com.bash.Event.ticketing.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "app.cache")
+public class CachingProperties {
+
+    // Applies to caches created on demand that have no entry in specs
+    private Spec defaults = new Spec();
+
+    // Cache name -> bounds
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+    // Shared second level: "none", "in-memory" (tests, single JVM) or "postgres"
+    private String l2 = "none";
+
+    // Cross-node L1 invalidation: "in-process" for a single node, "postgres" for LISTEN/NOTIFY
+    private String bus = "in-process";
+
+    private String notifyChannel = "cache_invalidation";
+
+    private Refresh refresh = new Refresh();
+
+    private Warmup warmup = new Warmup();
+
+    public Spec specFor(String cacheName) {
+        return specs.getOrDefault(cacheName, defaults);
+    }
+
+    @Data
+    public static class Spec {
+
+        // Approximate serialized bytes held by the cache, not an entry count
+        private DataSize maximumWeight = DataSize.ofMegabytes(16);
+
+        private Duration expireAfterAccess = Duration.ofMinutes(10);
+
+        private Duration expireAfterWrite = Duration.ofMinutes(30);
+
+        // Hits on entries at least this old reload them in the background while the old value is
+        // served; only for methods cached with sync = true. Unset disables refresh-ahead.
+        private Duration refreshAfterWrite;
+    }
+
+    @Data
+    public static class Refresh {
+
+        private int threads = 2;
+
+        // Refreshes waiting beyond this are skipped; the entry just expires as usual
+        private int queueCapacity = 100;
+    }
+
+    @Data
+    public static class Warmup {
+
+        private boolean enabled = true;
+
+        // First pages of the public event listing, at the listing's default page size
+        private int pages = 3;
+
+        private int pageSize = 10;
+
+        // Soonest upcoming events, loaded with their tickets in addition to those on the pages
+        private int upcomingEvents = 50;
+
+        private int parallelism = 4;
+
+        // Readiness goes up after this even if loads are still outstanding
+        private Duration budget = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,24 @@
+package com.bash.Event.ticketing.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+@Configuration
+public class DomainEventConfig {
+
+    // A single thread keeps after-commit notifications in commit order; the listeners only hand
+    // work to the SSE sender pool, so one thread is enough
+    @Bean(name = "domainEventExecutor")
+    public Executor domainEventExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10_000);
+        executor.setThreadNamePrefix("DomainEvent-");
+        executor.initialize();
+        return executor;
+    }
+}
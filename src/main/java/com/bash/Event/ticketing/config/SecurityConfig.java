@@ -86,7 +86,7 @@ public class SecurityConfig {
                                                 "/favicon.ico", "/error", "/webjars/**").permitAll()
                                 
                                 // AUTHENTICATED ENDPOINTS FIRST (most specific)
-                                .requestMatchers("/api/v1/events/my-events").authenticated()
+                                .requestMatchers("/api/v1/events/my-events", "/api/v1/events/my-events/**").authenticated()
                                 .requestMatchers("/api/v1/events/dashboard/**").authenticated()
                                 
                                 // Event management - authenticated users only
@@ -102,12 +102,13 @@ public class SecurityConfig {
                                 .requestMatchers(HttpMethod.GET, "/api/v1/events").permitAll()
                                 .requestMatchers(HttpMethod.GET, "/api/v1/events/*/tickets").permitAll()
                                 .requestMatchers(HttpMethod.GET, "/api/v1/events/*").permitAll()
+                                .requestMatchers(HttpMethod.GET, "/api/v1/events/search/**").permitAll()
                                 
                                 // Public ticket purchase
                                 .requestMatchers("/api/v1/events/*/tickets/*/purchase").permitAll()
                                 
                                 // Admin endpoints
-                                .requestMatchers("/api/admin").hasRole("ADMIN")
+                                .requestMatchers("/api/admin", "/api/admin/**").hasRole("ADMIN")
                                 .requestMatchers("/api/user").hasAnyRole("USER", "ADMIN")
                                 
                                 .anyRequest().authenticated()
@@ -127,9 +128,11 @@ public class SecurityConfig {
         configuration.setAllowedHeaders(Arrays.asList(
             "Authorization", "Content-Type", "X-Requested-With",
             "Accept", "Origin", "Access-Control-Request-Method",
-            "Access-Control-Request-Headers", "X-Auth-Token"
+            "Access-Control-Request-Headers", "X-Auth-Token",
+            "If-None-Match", "If-Modified-Since"
         ));
-        configuration.setExposedHeaders(Arrays.asList("Authorization", "X-Auth-Token"));
+        // Validators must be readable cross-origin, or browser clients can never revalidate
+        configuration.setExposedHeaders(Arrays.asList("Authorization", "X-Auth-Token", "ETag", "Last-Modified"));
         configuration.setMaxAge(3600L); // 1 hour
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
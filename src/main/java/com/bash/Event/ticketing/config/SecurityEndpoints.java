@@ -30,7 +30,9 @@ public final class SecurityEndpoints {
     // Event viewing endpoints - public access (more specific patterns)
     public static final String[] PUBLIC_EVENT_ENDPOINTS = {
         "/api/v1/events",
-        "/api/v1/events/*/tickets"
+        "/api/v1/events/*/tickets",
+        "/api/v1/events/search",
+        "/api/v1/events/search/**"
     };
 
     // Individual event viewing by UUID - public access
@@ -58,12 +60,14 @@ public final class SecurityEndpoints {
     // Authenticated dashboard endpoints - must come BEFORE wildcard patterns
     public static final String[] AUTHENTICATED_DASHBOARD_ENDPOINTS = {
         "/api/v1/events/dashboard/**",
-        "/api/v1/events/my-events"
+        "/api/v1/events/my-events",
+        "/api/v1/events/my-events/**"
     };
     
     // Admin endpoints - admin role required
     public static final String[] ADMIN_ENDPOINTS = {
-        "/api/admin"
+        "/api/admin",
+        "/api/admin/**"
     };
     
     // User endpoints - user or admin role required
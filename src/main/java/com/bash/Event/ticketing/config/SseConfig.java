@@ -0,0 +1,57 @@
+package com.bash.Event.ticketing.config;
+
+import com.bash.Event.ticketing.event.service.SseService;
+import com.bash.Event.ticketing.event.sse.DeflaterPool;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+@Configuration
+@EnableConfigurationProperties(SseProperties.class)
+@EnableScheduling
+public class SseConfig {
+
+    @Bean(name = "sseTaskExecutor")
+    public Executor sseTaskExecutor(SseProperties sseProperties) {
+        if (sseProperties.isVirtualThreads()) {
+            // One virtual thread per drain: a write blocked on a slow socket parks cheaply instead of
+            // holding one of a few platform threads, so fan-out to very many clients is not capped by the pool
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("SseSender-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(sseProperties.getSenderThreads());
+        executor.setMaxPoolSize(sseProperties.getSenderThreads());
+        executor.setThreadNamePrefix("SseSender-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public DeflaterPool sseDeflaterPool(SseProperties sseProperties) {
+        SseProperties.Compression compression = sseProperties.getCompression();
+        return new DeflaterPool(compression.getLevel(), compression.getMaxActive(), compression.getMaxIdle());
+    }
+
+    @Bean
+    public MeterBinder sseDeflatersGauge(DeflaterPool sseDeflaterPool) {
+        return registry -> Gauge.builder("sse.deflaters.active", sseDeflaterPool, DeflaterPool::getActiveCount)
+                .description("SSE streams currently compressing")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder sseConnectionsGauge(SseService sseService) {
+        return registry -> Gauge.builder("sse.connections", sseService, SseService::getConnectionCount)
+                .description("Live SSE connections")
+                .register(registry);
+    }
+}
@@ -0,0 +1,76 @@
+package com.bash.Event.ticketing.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.sse")
+public class SseProperties {
+
+    private int senderThreads = 4;
+
+    // Run sends on virtual threads instead of the senderThreads pool
+    private boolean virtualThreads = false;
+
+    // Frames buffered per client before it is degraded to a resync
+    private int queueCapacity = 256;
+
+    // Comment frames keep proxies from closing quiet connections and surface dead sockets
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    // Connections with no successful write for this long are reaped
+    private Duration idleTimeout = Duration.ofMinutes(2);
+
+    private int maxConnections = 10_000;
+
+    private int maxConnectionsPerIp = 20;
+
+    // Tickets and events whose last state is kept to compute delta-mode updates
+    private int deltaMaxEntities = 100_000;
+
+    // Cross-node fan-out: "in-process" for a single node, "postgres" for LISTEN/NOTIFY
+    private String bus = "in-process";
+
+    private String notifyChannel = "sse_broadcast";
+
+    private Replay replay = new Replay();
+
+    private Batching batching = new Batching();
+
+    private Compression compression = new Compression();
+
+    @Data
+    public static class Compression {
+
+        // Gzip streams for clients sending Accept-Encoding: gzip
+        private boolean enabled = false;
+
+        private int level = 6;
+
+        // Connections compressing at once; the rest stream uncompressed
+        private int maxActive = 2000;
+
+        // Released deflaters kept for reuse by the next connection
+        private int maxIdle = 256;
+    }
+
+    @Data
+    public static class Batching {
+
+        // Collect ticket updates per topic set and send one array frame per tick
+        private boolean enabled = false;
+
+        private Duration tick = Duration.ofMillis(100);
+    }
+
+    @Data
+    public static class Replay {
+
+        // Frames kept per topic for Last-Event-ID resume
+        private int bufferSize = 256;
+
+        private int maxTopics = 10_000;
+    }
+}
@@ -0,0 +1,20 @@
+package com.bash.Event.ticketing.email.listener;
+
+import com.bash.Event.ticketing.authentication.domain.UserRegistered;
+import com.bash.Event.ticketing.email.service.EmailService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Mail only goes out once the registration has committed; EmailService sends on its own pool.
+@Component
+@RequiredArgsConstructor
+public class EmailNotificationListener {
+
+    private final EmailService emailService;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserRegistered(UserRegistered event) {
+        emailService.sendVerificationEmail(event.user(), event.verificationToken());
+    }
+}
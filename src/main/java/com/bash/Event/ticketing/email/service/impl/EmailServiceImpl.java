@@ -29,7 +29,7 @@ public class EmailServiceImpl implements EmailService {
     private String baseUrl;
     
     @Override
-    @Async
+    @Async("emailTaskExecutor")
     public void sendVerificationEmail(User user, String token) {
         String verificationLink = baseUrl + "/api/v1/auth/verify-email?token=" + token;
         String subject = "Verify Your Email Address";
@@ -45,7 +45,7 @@ public class EmailServiceImpl implements EmailService {
     }
     
     @Override
-    @Async
+    @Async("emailTaskExecutor")
     public void sendPasswordResetEmail(User user, String token) {
         String resetLink = baseUrl + "/reset-password?token=" + token;
         String subject = "Password Reset Request";
@@ -0,0 +1,48 @@
+package com.bash.Event.ticketing.event.controller;
+
+import com.bash.Event.ticketing.event.service.SseService;
+import com.bash.Event.ticketing.event.sse.DeflaterPool;
+import com.bash.Event.ticketing.event.sse.SseMode;
+import com.bash.Event.ticketing.event.sse.ServletSseSink;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+// /subscribe for clients that may take gzip, only mapped while compression is enabled. SseEmitter
+// writes through message converters that cannot be wrapped in a gzip stream, so these requests are
+// served by the servlet transport instead; a client whose Accept-Encoding turns gzip down gets the
+// same stream uncompressed. Requests without the header stay on SseController.subscribe.
+@RestController
+@RequestMapping("/api/v1/sse")
+@ConditionalOnProperty(name = "app.sse.compression.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class CompressedSseController {
+
+    private final SseService sseService;
+    private final DeflaterPool deflaterPool;
+
+    @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE, headers = "Accept-Encoding")
+    public void subscribe(@RequestParam(defaultValue = "") String clientId,
+                          @RequestParam(required = false) List<String> topics,
+                          @RequestParam(required = false) String mode,
+                          @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+                          @RequestParam(value = "lastEventId", required = false) String lastEventIdParam,
+                          HttpServletRequest request,
+                          HttpServletResponse response) {
+        if (clientId.isEmpty()) {
+            clientId = UUID.randomUUID().toString();
+        }
+        Long lastEventId = SseController.parseEventId(lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam);
+        log.info("SSE subscription request from client: {} for topics: {} resuming from: {}", clientId, topics, lastEventId);
+        sseService.stream(clientId, topics, SseMode.parse(mode), lastEventId, request.getRemoteAddr(),
+                () -> ServletSseSink.start(request, response, deflaterPool));
+    }
+}
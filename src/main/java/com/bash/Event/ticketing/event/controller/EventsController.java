@@ -1,22 +1,38 @@
 package com.bash.Event.ticketing.event.controller;
 
+import com.bash.Event.ticketing.Exceptions.EventNotFoundException;
+import com.bash.Event.ticketing.Exceptions.TicketNotFoundException;
+import com.bash.Event.ticketing.cache.MissingIdCache;
+import com.bash.Event.ticketing.cache.ResourceVersion;
+import com.bash.Event.ticketing.cache.ResourceVersions;
 import com.bash.Event.ticketing.event.dto.request.EventRequest;
 import com.bash.Event.ticketing.event.dto.request.PurchaseRequest;
 import com.bash.Event.ticketing.event.dto.request.TicketRequest;
+import com.bash.Event.ticketing.event.dto.response.CursorPage;
 import com.bash.Event.ticketing.event.dto.response.DashboardInsights;
 import com.bash.Event.ticketing.event.dto.response.EventResponse;
+import com.bash.Event.ticketing.event.dto.response.EventSearchResponse;
 import com.bash.Event.ticketing.event.dto.response.MessageResponse;
 import com.bash.Event.ticketing.event.dto.response.TicketResponse;
+import com.bash.Event.ticketing.event.dto.response.TrendingEventResponse;
 import com.bash.Event.ticketing.event.service.EventService;
+import com.bash.Event.ticketing.event.service.TicketExportService;
 import com.bash.Event.ticketing.event.service.TicketService;
+import com.bash.Event.ticketing.event.service.TrendingService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.ZoneId;
 import java.util.List;
 import java.util.UUID;
 
@@ -27,6 +43,10 @@ public class EventsController {
 
     private final EventService eventsService;
     private final TicketService ticketService;
+    private final TrendingService trendingService;
+    private final TicketExportService ticketExportService;
+    private final ResourceVersions resourceVersions;
+    private final MissingIdCache missingIdCache;
 
     @PreAuthorize("hasAnyRole('EVENT_OWNER', 'ADMIN')")
     @PostMapping
@@ -50,8 +70,59 @@ public class EventsController {
     }
 
     @GetMapping("/{eventId}")
-    public ResponseEntity<MessageResponse<EventResponse>> getEventById(@PathVariable UUID eventId) {
+    public ResponseEntity<MessageResponse<EventResponse>> getEventById(@PathVariable UUID eventId, WebRequest request) {
+        rejectMissingEvent(eventId);
+        // A known version answers revalidation without loading the event. checkNotModified also sets
+        // ETag and Last-Modified, and on a match has already written the 304, so no body is returned.
+        String versionKey = ResourceVersions.eventKey(eventId);
+        ResourceVersion version = resourceVersions.get(versionKey);
+        if (version != null && request.checkNotModified(version.etag(), version.lastModified())) {
+            // Recorded here rather than in the service so cache hits and revalidations count as views too
+            trendingService.recordView(eventId);
+            return null;
+        }
         MessageResponse<EventResponse> response = eventsService.getEventById(eventId);
+        trendingService.recordView(eventId);
+        if (version == null) {
+            EventResponse event = response.getData();
+            Long lastModified = event.getUpdatedAt() == null ? null
+                    : event.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            version = resourceVersions.record(versionKey, event, lastModified);
+            if (request.checkNotModified(version.etag(), version.lastModified())) {
+                return null;
+            }
+        }
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @GetMapping("/trending")
+    public ResponseEntity<MessageResponse<List<TrendingEventResponse>>> getTrendingEvents(
+            @RequestParam(defaultValue = "10") int limit) {
+        MessageResponse<List<TrendingEventResponse>> response = eventsService.getTrendingEvents(limit);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<MessageResponse<List<EventSearchResponse>>> searchEvents(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit) {
+        MessageResponse<List<EventSearchResponse>> response = eventsService.searchEvents(query, limit);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @GetMapping("/search/suggest")
+    public ResponseEntity<MessageResponse<List<String>>> suggestSearchTerms(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        MessageResponse<List<String>> response = eventsService.suggestSearchTerms(prefix, limit);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<MessageResponse<CursorPage<EventResponse>>> getEventsAfter(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        MessageResponse<CursorPage<EventResponse>> response = eventsService.getEventsAfter(cursor, size);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
@@ -73,16 +144,42 @@ public class EventsController {
     }
 
     @GetMapping("/{eventId}/tickets")
-    public ResponseEntity<MessageResponse<List<TicketResponse>>> getEventTickets(@PathVariable UUID eventId) {
+    public ResponseEntity<MessageResponse<List<TicketResponse>>> getEventTickets(@PathVariable UUID eventId,
+                                                                               WebRequest request) {
+        String versionKey = ResourceVersions.ticketsKey(eventId);
+        ResourceVersion version = resourceVersions.get(versionKey);
+        if (version != null && request.checkNotModified(version.etag(), version.lastModified())) {
+            return null;
+        }
         MessageResponse<List<TicketResponse>> response = ticketService.getEventTickets(eventId);
+        if (version == null) {
+            version = resourceVersions.record(versionKey, response.getData(), null);
+            if (request.checkNotModified(version.etag(), version.lastModified())) {
+                return null;
+            }
+        }
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    @PreAuthorize("hasAnyRole('EVENT_OWNER', 'ADMIN')")
+    @GetMapping("/{eventId}/export.csv")
+    public ResponseEntity<StreamingResponseBody> exportEventCsv(@PathVariable UUID eventId, WebRequest request) {
+        StreamingResponseBody body = ticketExportService.exportEventCsv(eventId);
+        // Large exports stream for longer than the container default; other async requests keep it
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest()
+                .setTimeout(ticketExportService.getExportTimeout().toMillis());
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"event-" + eventId + ".csv\"")
+                .contentType(new MediaType("text", "csv"))
+                .body(body);
+    }
+
     @PostMapping("/{eventId}/tickets/{ticketId}/purchase")
     public ResponseEntity<MessageResponse<TicketResponse>> purchaseTicket(
             @PathVariable UUID eventId,
             @PathVariable UUID ticketId,
             @RequestBody PurchaseRequest purchaseRequest) {
+        rejectMissingTicket(ticketId);
         MessageResponse<TicketResponse> response = ticketService.purchaseTicket(eventId, ticketId, purchaseRequest);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
@@ -90,6 +187,7 @@ public class EventsController {
     @PreAuthorize("hasAnyRole('EVENT_OWNER', 'ADMIN')")
     @PostMapping("/tickets/{ticketId}/scan")
     public ResponseEntity<MessageResponse<TicketResponse>> scanTicket(@PathVariable UUID ticketId) {
+        rejectMissingTicket(ticketId);
         MessageResponse<TicketResponse> response = ticketService.scanTicket(ticketId);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
@@ -111,10 +209,33 @@ public class EventsController {
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    @PreAuthorize("hasAnyRole('EVENT_OWNER', 'ADMIN')")
+    @GetMapping("/my-events/cursor")
+    public ResponseEntity<MessageResponse<CursorPage<EventResponse>>> getUserEventsAfter(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        MessageResponse<CursorPage<EventResponse>> response = eventsService.getUserEventsAfter(cursor, size);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     @PreAuthorize("hasAnyRole('EVENT_OWNER', 'ADMIN')")
     @GetMapping("/dashboard/my-insights")
     public ResponseEntity<MessageResponse<DashboardInsights>> getUserDashboardInsights() {
         MessageResponse<DashboardInsights> response = ticketService.getUserDashboardInsights();
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
+
+    // Ids recently found missing get their 404 here, before the version lookup, the cache (and its
+    // shared tier) or a transaction is touched
+    private void rejectMissingEvent(UUID eventId) {
+        if (missingIdCache.isMissing(MissingIdCache.eventKey(eventId))) {
+            throw new EventNotFoundException("Event not found with ID: " + eventId);
+        }
+    }
+
+    private void rejectMissingTicket(UUID ticketId) {
+        if (missingIdCache.isMissing(MissingIdCache.ticketKey(ticketId))) {
+            throw new TicketNotFoundException("Ticket not found with ID: " + ticketId);
+        }
+    }
 }
@@ -1,12 +1,19 @@
 package com.bash.Event.ticketing.event.controller;
 
+import com.bash.Event.ticketing.config.SseProperties;
 import com.bash.Event.ticketing.event.service.SseService;
+import com.bash.Event.ticketing.event.sse.DeflaterPool;
+import com.bash.Event.ticketing.event.sse.SseMode;
+import com.bash.Event.ticketing.event.sse.ServletSseSink;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -16,14 +23,43 @@ import java.util.UUID;
 public class SseController {
 
     private final SseService sseService;
+    private final SseProperties sseProperties;
+    private final DeflaterPool deflaterPool;
 
+    // Served through SseEmitter. With compression enabled, requests that send Accept-Encoding go to
+    // CompressedSseController instead.
     @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribe(@RequestParam(defaultValue = "") String clientId) {
+    public SseEmitter subscribe(@RequestParam(defaultValue = "") String clientId,
+                                @RequestParam(required = false) List<String> topics,
+                                @RequestParam(required = false) String mode,
+                                @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+                                @RequestParam(value = "lastEventId", required = false) String lastEventIdParam,
+                                HttpServletRequest request) {
         if (clientId.isEmpty()) {
             clientId = UUID.randomUUID().toString();
         }
-        log.info("SSE subscription request from client: {}", clientId);
-        return sseService.subscribe(clientId);
+        // Browsers send the header on automatic reconnects; the query param covers manual reconnects
+        Long lastEventId = parseEventId(lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam);
+        log.info("SSE subscription request from client: {} for topics: {} resuming from: {}", clientId, topics, lastEventId);
+        return sseService.subscribe(clientId, topics, SseMode.parse(mode), lastEventId, request.getRemoteAddr());
+    }
+
+    // Same contract as /subscribe on the lightweight servlet transport, for large numbers of idle subscribers
+    @GetMapping("/stream")
+    public void stream(@RequestParam(defaultValue = "") String clientId,
+                       @RequestParam(required = false) List<String> topics,
+                       @RequestParam(required = false) String mode,
+                       @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+                       @RequestParam(value = "lastEventId", required = false) String lastEventIdParam,
+                       HttpServletRequest request,
+                       HttpServletResponse response) {
+        if (clientId.isEmpty()) {
+            clientId = UUID.randomUUID().toString();
+        }
+        Long lastEventId = parseEventId(lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam);
+        log.debug("SSE stream request from client: {} for topics: {} resuming from: {}", clientId, topics, lastEventId);
+        sseService.stream(clientId, topics, SseMode.parse(mode), lastEventId, request.getRemoteAddr(),
+                () -> ServletSseSink.start(request, response, compressionEnabled() ? deflaterPool : null));
     }
 
     @DeleteMapping("/unsubscribe/{clientId}")
@@ -31,4 +67,20 @@ public class SseController {
         log.info("SSE unsubscribe request from client: {}", clientId);
         sseService.removeClient(clientId);
     }
+
+    private boolean compressionEnabled() {
+        return sseProperties.getCompression().isEnabled();
+    }
+
+    static Long parseEventId(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            // An id we never issued cannot be resumed; treat it like a fresh connection
+            return null;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.bash.Event.ticketing.event.domain;
+
+import com.bash.Event.ticketing.event.dto.response.EventResponse;
+
+import java.util.UUID;
+
+// changeType is CREATED, UPDATED or DELETED; event is null for deletions. rescheduled marks an
+// update that changed the start time, and with it the event's place in listings.
+public record EventChanged(UUID eventId, String ownerEmail, String changeType, EventResponse event, boolean rescheduled) {
+
+    public static final String CREATED = "CREATED";
+    public static final String UPDATED = "UPDATED";
+    public static final String DELETED = "DELETED";
+
+    public EventChanged(UUID eventId, String ownerEmail, String changeType, EventResponse event) {
+        this(eventId, ownerEmail, changeType, event, false);
+    }
+}
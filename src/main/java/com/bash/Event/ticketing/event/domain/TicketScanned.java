@@ -0,0 +1,8 @@
+package com.bash.Event.ticketing.event.domain;
+
+import com.bash.Event.ticketing.event.dto.response.TicketResponse;
+
+import java.util.UUID;
+
+public record TicketScanned(UUID ticketId, UUID eventId, String ownerEmail, TicketResponse ticket) {
+}
@@ -0,0 +1,25 @@
+package com.bash.Event.ticketing.event.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPage<T> implements Serializable {
+
+    private List<T> content;
+
+    private int size;
+
+    // Pass back as ?cursor= for the next page; null on the last page
+    private String nextCursor;
+
+    private boolean hasNext;
+}
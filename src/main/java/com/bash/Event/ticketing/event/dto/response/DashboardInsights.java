@@ -3,9 +3,11 @@ package com.bash.Event.ticketing.event.dto.response;
 import lombok.Builder;
 import lombok.Data;
 
+import java.io.Serializable;
+
 @Data
 @Builder
-public class DashboardInsights {
+public class DashboardInsights implements Serializable {
     private Long totalTicketsSold;
     private Long activeAttendances;
     private Long totalEvents;
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -13,7 +14,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class EventResponse {
+public class EventResponse implements Serializable {
 
     private UUID eventId;
 
@@ -26,4 +27,6 @@ public class EventResponse {
     private LocalDateTime endTime;
 
     private Address address;
+
+    private LocalDateTime updatedAt;
 }
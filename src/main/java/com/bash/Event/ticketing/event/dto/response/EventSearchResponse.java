@@ -0,0 +1,21 @@
+package com.bash.Event.ticketing.event.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventSearchResponse {
+
+    private UUID eventId;
+
+    private double score;
+
+    private EventResponse event;
+}
@@ -4,11 +4,12 @@ package com.bash.Event.ticketing.event.dto.response;
 import com.bash.Event.ticketing.event.enums.AttendanceStatus;
 import lombok.Data;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Data
-public class TicketResponse {
+public class TicketResponse implements Serializable {
     private UUID id;
     private UUID eventId;
     private String ticketType;
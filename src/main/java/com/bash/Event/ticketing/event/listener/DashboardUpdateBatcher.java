@@ -0,0 +1,54 @@
+package com.bash.Event.ticketing.event.listener;
+
+import com.bash.Event.ticketing.event.domain.EventChanged;
+import com.bash.Event.ticketing.event.domain.TicketPurchased;
+import com.bash.Event.ticketing.event.domain.TicketScanned;
+import com.bash.Event.ticketing.event.service.SseService;
+import com.bash.Event.ticketing.event.service.TicketService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Coalesces committed changes into at most one dashboard recomputation and broadcast per flush
+// interval, instead of one per purchase or scan. A change is only marked after
+// CacheInvalidationListener has evicted the cached insights, so a flush never re-sends the old ones.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardUpdateBatcher {
+
+    private final TicketService ticketService;
+    private final SseService sseService;
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketPurchased(TicketPurchased event) {
+        dirty.set(true);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketScanned(TicketScanned event) {
+        dirty.set(true);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChanged event) {
+        dirty.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${app.dashboard.flush-interval:1s}")
+    public void flush() {
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+        try {
+            sseService.sendDashboardUpdate(ticketService.getDashboardInsights().getData());
+        } catch (RuntimeException e) {
+            log.error("Failed to publish dashboard update", e);
+        }
+    }
+}
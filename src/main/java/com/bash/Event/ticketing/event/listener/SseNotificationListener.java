@@ -0,0 +1,52 @@
+package com.bash.Event.ticketing.event.listener;
+
+import com.bash.Event.ticketing.event.domain.EventChanged;
+import com.bash.Event.ticketing.event.domain.TicketCreated;
+import com.bash.Event.ticketing.event.domain.TicketPurchased;
+import com.bash.Event.ticketing.event.domain.TicketScanned;
+import com.bash.Event.ticketing.event.service.SseService;
+import com.bash.Event.ticketing.event.service.TrendingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Announces committed changes to SSE clients and the trending ranking, off the request thread.
+// Nothing here runs for a transaction that rolls back.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SseNotificationListener {
+
+    private final SseService sseService;
+    private final TrendingService trendingService;
+
+    @Async("domainEventExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketCreated(TicketCreated event) {
+        sseService.sendTicketUpdate(event.ticketId(), event.eventId(), event.ownerEmail(), "CREATED", event.ticket());
+    }
+
+    @Async("domainEventExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketPurchased(TicketPurchased event) {
+        trendingService.recordPurchase(event.eventId(), event.quantity());
+        sseService.sendTicketUpdate(event.ticketId(), event.eventId(), event.ownerEmail(), "PURCHASED", event.ticket());
+    }
+
+    @Async("domainEventExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketScanned(TicketScanned event) {
+        sseService.sendTicketUpdate(event.ticketId(), event.eventId(), event.ownerEmail(), "SCANNED", event.ticket());
+    }
+
+    @Async("domainEventExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChanged event) {
+        if (EventChanged.DELETED.equals(event.changeType())) {
+            trendingService.removeEvent(event.eventId());
+        }
+        sseService.sendEventUpdate(event.eventId(), event.ownerEmail(), event.changeType(), event.event());
+    }
+}
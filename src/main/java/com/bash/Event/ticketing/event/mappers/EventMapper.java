@@ -45,6 +45,7 @@ public class EventMapper {
                 .address(event.getVenue())
                 .startTime(event.getStartTime())
                 .endTime(event.getEndTime())
+                .updatedAt(event.getUpdatedAt())
                 .build();
     }
 }
@@ -6,12 +6,14 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
+
 @Embeddable
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
 @Builder
-public class Address {
+public class Address implements Serializable {
 
     private String venueName;
 
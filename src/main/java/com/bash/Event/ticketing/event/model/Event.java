@@ -7,6 +7,10 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_event_start_time_id", columnList = "start_time, id"),
+        @Index(name = "idx_event_created_by_start_time_id", columnList = "created_by, start_time, id")
+})
 @Setter
 @Getter
 @ToString
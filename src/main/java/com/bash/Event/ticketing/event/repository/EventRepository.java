@@ -1,9 +1,12 @@
 package com.bash.Event.ticketing.event.repository;
 
 import com.bash.Event.ticketing.event.model.Event;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -17,4 +20,31 @@ public interface EventRepository extends JpaRepository<Event, UUID> {
     Page<Event> findByCreatedBy(String createdBy, Pageable pageable);
     List<Event> findByCreatedBy(String createdBy);
 
+    // Keyset pages in (start_time, id) order: the row comparison seeks straight into the
+    // (start_time, id) index, so deep pages cost the same as the first, and no count is run
+    @Query(value = "SELECT * FROM event WHERE start_time IS NOT NULL ORDER BY start_time, id LIMIT :limit",
+            nativeQuery = true)
+    List<Event> findFirstByStartTime(@Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM event WHERE (start_time, id) > (:startTime, :id) ORDER BY start_time, id LIMIT :limit",
+            nativeQuery = true)
+    List<Event> findAfterByStartTime(@Param("startTime") LocalDateTime startTime, @Param("id") UUID id,
+                                     @Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM event WHERE created_by = :createdBy AND start_time IS NOT NULL "
+            + "ORDER BY start_time, id LIMIT :limit", nativeQuery = true)
+    List<Event> findFirstByCreatedByAndStartTime(@Param("createdBy") String createdBy, @Param("limit") int limit);
+
+    @Query(value = "SELECT * FROM event WHERE created_by = :createdBy AND (start_time, id) > (:startTime, :id) "
+            + "ORDER BY start_time, id LIMIT :limit", nativeQuery = true)
+    List<Event> findAfterByCreatedByAndStartTime(@Param("createdBy") String createdBy,
+                                                 @Param("startTime") LocalDateTime startTime,
+                                                 @Param("id") UUID id, @Param("limit") int limit);
+
+    @Query("select e.id from Event e where e.startTime > :from order by e.startTime asc")
+    List<UUID> findUpcomingEventIds(@Param("from") LocalDateTime from, Pageable pageable);
+
+    // Whole-table scans in primary key batches, for rebuilding in-memory indexes
+    List<Event> findByIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
+
 }
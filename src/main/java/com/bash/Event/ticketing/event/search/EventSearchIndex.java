@@ -0,0 +1,305 @@
+package com.bash.Event.ticketing.event.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Inverted index over event text, ranked with BM25. Each event is one document with an internal
+// int doc id, assigned in ascending order so postings only ever append. Re-indexing an event
+// deletes its old document and adds a new one; deleted documents are skipped at query time and
+// dropped, with doc ids renumbered, once they make up a quarter of the index.
+public class EventSearchIndex {
+
+    // Standard BM25 parameters
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // A title match counts as this many matches elsewhere
+    private static final int TITLE_WEIGHT = 3;
+
+    private static final int MIN_COMPACTION_GARBAGE = 1024;
+
+    private static final Comparator<SearchHit> BY_SCORE = Comparator
+            .comparingDouble(SearchHit::score)
+            .thenComparing(SearchHit::eventId, Comparator.reverseOrder());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<UUID, Integer> docIds = new HashMap<>();
+    private PrefixTrie terms = new PrefixTrie();
+    private UUID[] eventIds = new UUID[1024];
+    private int[] lengths = new int[1024];
+    private BitSet deleted = new BitSet();
+    private int nextDocId;
+    private int liveCount;
+    private long liveLength;
+
+    public void index(UUID eventId, String title, String description, String venue) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        SearchTokenizer.tokenize(title).forEach(token -> frequencies.merge(token, TITLE_WEIGHT, Integer::sum));
+        SearchTokenizer.tokenize(description).forEach(token -> frequencies.merge(token, 1, Integer::sum));
+        SearchTokenizer.tokenize(venue).forEach(token -> frequencies.merge(token, 1, Integer::sum));
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(eventId);
+            if (frequencies.isEmpty()) {
+                return;
+            }
+            int docId = nextDocId++;
+            if (docId == eventIds.length) {
+                eventIds = Arrays.copyOf(eventIds, docId * 2);
+                lengths = Arrays.copyOf(lengths, docId * 2);
+            }
+            int length = 0;
+            for (int frequency : frequencies.values()) {
+                length += frequency;
+            }
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                PostingList list = postings.computeIfAbsent(entry.getKey(), term -> new PostingList());
+                list.add(docId, entry.getValue(), length);
+                terms.put(entry.getKey(), list.size());
+            }
+            eventIds[docId] = eventId;
+            lengths[docId] = length;
+            docIds.put(eventId, docId);
+            liveCount++;
+            liveLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID eventId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(eventId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Any query term may match. Documents are walked in doc id order (block-max MaxScore): once
+    // the best `limit` hits are known, terms whose combined score bound cannot beat the weakest of
+    // them stop driving the walk and are only probed, and whole blocks of postings whose best
+    // possible score falls short are skipped without decoding, so a common term costs little more
+    // than a rare one. Among hits tied on score, the first found wins.
+    public List<SearchHit> search(String query, int limit) {
+        List<String> queryTerms = new ArrayList<>(new LinkedHashSet<>(SearchTokenizer.tokenize(query)));
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            if (liveCount == 0) {
+                return List.of();
+            }
+            double averageLength = (double) liveLength / liveCount;
+            List<TermCursor> matched = new ArrayList<>();
+            for (String term : queryTerms) {
+                PostingList list = postings.get(term);
+                if (list != null) {
+                    TermCursor cursor = new TermCursor(list, idf(list.size()), averageLength);
+                    if (cursor.postings.next()) {
+                        matched.add(cursor);
+                    }
+                }
+            }
+            matched.sort(Comparator.comparingDouble(cursor -> cursor.maxScore));
+            TermCursor[] cursors = matched.toArray(new TermCursor[0]);
+            // boundUpTo[i] is the most that terms 0..i together can add to any document
+            double[] boundUpTo = new double[cursors.length];
+            for (int i = 0; i < cursors.length; i++) {
+                boundUpTo[i] = (i == 0 ? 0 : boundUpTo[i - 1]) + cursors[i].maxScore;
+            }
+
+            PriorityQueue<SearchHit> best = new PriorityQueue<>(limit + 1, BY_SCORE);
+            double threshold = Double.NEGATIVE_INFINITY;
+            int firstEssential = 0;
+            while (firstEssential < cursors.length) {
+                int docId = PostingList.NO_MORE_DOCS;
+                for (int i = firstEssential; i < cursors.length; i++) {
+                    docId = Math.min(docId, cursors[i].postings.docId());
+                }
+                if (docId == PostingList.NO_MORE_DOCS) {
+                    break;
+                }
+                double nonEssentialBound = firstEssential == 0 ? 0 : boundUpTo[firstEssential - 1];
+
+                if (best.size() == limit) {
+                    // Up to blockEnd every essential term is within its current block, or has
+                    // no posting at all
+                    int blockEnd = PostingList.NO_MORE_DOCS;
+                    for (int i = firstEssential; i < cursors.length; i++) {
+                        if (cursors[i].postings.docId() != PostingList.NO_MORE_DOCS) {
+                            blockEnd = Math.min(blockEnd, cursors[i].postings.blockLastDocId());
+                        }
+                    }
+                    double blockBound = nonEssentialBound;
+                    for (int i = firstEssential; i < cursors.length; i++) {
+                        if (cursors[i].postings.docId() <= blockEnd) {
+                            blockBound += cursors[i].blockMaxScore();
+                        }
+                    }
+                    if (blockBound <= threshold) {
+                        for (int i = firstEssential; i < cursors.length; i++) {
+                            cursors[i].postings.advance(blockEnd + 1);
+                        }
+                        continue;
+                    }
+                }
+
+                double score = 0;
+                for (int i = firstEssential; i < cursors.length; i++) {
+                    TermCursor cursor = cursors[i];
+                    if (cursor.postings.docId() == docId) {
+                        score += cursor.score(lengths[docId]);
+                        cursor.postings.next();
+                    }
+                }
+                boolean competitive = true;
+                for (int i = firstEssential - 1; i >= 0; i--) {
+                    if (score + boundUpTo[i] <= threshold) {
+                        competitive = false;
+                        break;
+                    }
+                    TermCursor cursor = cursors[i];
+                    if (cursor.postings.advance(docId) && cursor.postings.docId() == docId) {
+                        score += cursor.score(lengths[docId]);
+                    }
+                }
+                if (!competitive || score <= threshold || deleted.get(docId)) {
+                    continue;
+                }
+
+                SearchHit hit = new SearchHit(eventIds[docId], score);
+                if (best.size() < limit) {
+                    best.add(hit);
+                } else {
+                    best.poll();
+                    best.add(hit);
+                }
+                if (best.size() == limit) {
+                    threshold = best.peek().score();
+                    while (firstEssential < cursors.length && boundUpTo[firstEssential] <= threshold) {
+                        firstEssential++;
+                    }
+                }
+            }
+            List<SearchHit> hits = new ArrayList<>(best);
+            hits.sort(BY_SCORE.reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Completes the last word of the input to indexed terms, most widespread first. Terms only
+    // found in deleted events may still be offered until the next compaction.
+    public List<String> suggest(String input, int limit) {
+        String prefix = SearchTokenizer.lastWord(input);
+        lock.readLock().lock();
+        try {
+            return terms.complete(prefix, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Document frequency counts deleted documents until compaction, which only slightly
+    // understates the weight of terms from frequently edited events; capping it at the live count
+    // keeps the weight positive
+    private double idf(int documentFrequency) {
+        double frequency = Math.min(documentFrequency, liveCount);
+        return Math.log(1 + (liveCount - frequency + 0.5) / (frequency + 0.5));
+    }
+
+    private void removeDocument(UUID eventId) {
+        Integer docId = docIds.remove(eventId);
+        if (docId == null) {
+            return;
+        }
+        deleted.set(docId);
+        liveCount--;
+        liveLength -= lengths[docId];
+        int garbage = nextDocId - liveCount;
+        if (garbage >= MIN_COMPACTION_GARBAGE && garbage > nextDocId / 4) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        int[] remap = new int[nextDocId];
+        UUID[] compactedIds = new UUID[Math.max(1024, liveCount * 2)];
+        int[] compactedLengths = new int[compactedIds.length];
+        int next = 0;
+        for (int docId = 0; docId < nextDocId; docId++) {
+            if (!deleted.get(docId)) {
+                remap[docId] = next;
+                compactedIds[next] = eventIds[docId];
+                compactedLengths[next] = lengths[docId];
+                docIds.put(eventIds[docId], next);
+                next++;
+            }
+        }
+        BitSet garbage = deleted;
+        int[] oldLengths = lengths;
+        PrefixTrie compactedTerms = new PrefixTrie();
+        postings.replaceAll((term, list) -> list.retain(
+                docId -> !garbage.get(docId), docId -> remap[docId], docId -> oldLengths[docId]));
+        postings.values().removeIf(list -> list.size() == 0);
+        postings.forEach((term, list) -> compactedTerms.put(term, list.size()));
+
+        terms = compactedTerms;
+        eventIds = compactedIds;
+        lengths = compactedLengths;
+        deleted = new BitSet();
+        nextDocId = next;
+    }
+
+    private static final class TermCursor {
+
+        private final PostingList.Cursor postings;
+        private final double idf;
+        private final double averageLength;
+        private final double maxScore;
+
+        private TermCursor(PostingList list, double idf, double averageLength) {
+            this.postings = list.cursor();
+            this.idf = idf;
+            this.averageLength = averageLength;
+            this.maxScore = score(list.maxTermFrequency(), list.minLength());
+        }
+
+        private double score(int documentLength) {
+            return score(postings.termFrequency(), documentLength);
+        }
+
+        // Grows with tf and shrinks with length, so the block's extremes bound every posting in it
+        private double blockMaxScore() {
+            return score(postings.blockMaxTermFrequency(), postings.blockMinLength());
+        }
+
+        private double score(int tf, int documentLength) {
+            return idf * tf * (K1 + 1) / (tf + K1 * (1 - B + B * documentLength / averageLength));
+        }
+    }
+}
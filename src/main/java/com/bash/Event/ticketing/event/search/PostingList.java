@@ -0,0 +1,178 @@
+package com.bash.Event.ticketing.event.search;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+// Ascending doc ids with their term frequencies, stored as varint-encoded (doc id delta, tf)
+// pairs; most fit in a byte each, so a posting costs about two bytes. Postings are grouped in
+// blocks of BLOCK_SIZE with the last doc id, start offset, highest tf and shortest document of
+// each block, which lets a cursor jump over whole blocks and lets queries bound a block's best
+// possible score without decoding it.
+final class PostingList {
+
+    static final int BLOCK_SIZE = 128;
+    static final int NO_MORE_DOCS = Integer.MAX_VALUE;
+
+    private byte[] data = new byte[8];
+    private int length;
+    private int count;
+    private int lastDocId = -1;
+
+    private int[] blockLastDocIds = new int[1];
+    private int[] blockOffsets = new int[1];
+    private int[] blockMaxTermFrequencies = new int[1];
+    private int[] blockMinLengths = new int[1];
+
+    private int maxTermFrequency;
+    private int minLength = Integer.MAX_VALUE;
+
+    void add(int docId, int termFrequency, int documentLength) {
+        if (docId <= lastDocId) {
+            throw new IllegalArgumentException("Doc ids must be added in ascending order");
+        }
+        int block = count / BLOCK_SIZE;
+        if (count % BLOCK_SIZE == 0) {
+            if (block == blockOffsets.length) {
+                int capacity = block * 2;
+                blockLastDocIds = Arrays.copyOf(blockLastDocIds, capacity);
+                blockOffsets = Arrays.copyOf(blockOffsets, capacity);
+                blockMaxTermFrequencies = Arrays.copyOf(blockMaxTermFrequencies, capacity);
+                blockMinLengths = Arrays.copyOf(blockMinLengths, capacity);
+            }
+            blockOffsets[block] = length;
+            blockMaxTermFrequencies[block] = 0;
+            blockMinLengths[block] = Integer.MAX_VALUE;
+        }
+        writeVarInt(docId - lastDocId);
+        writeVarInt(termFrequency);
+        blockLastDocIds[block] = docId;
+        blockMaxTermFrequencies[block] = Math.max(blockMaxTermFrequencies[block], termFrequency);
+        blockMinLengths[block] = Math.min(blockMinLengths[block], documentLength);
+        maxTermFrequency = Math.max(maxTermFrequency, termFrequency);
+        minLength = Math.min(minLength, documentLength);
+        lastDocId = docId;
+        count++;
+    }
+
+    // Postings, deleted documents included until the next compaction
+    int size() {
+        return count;
+    }
+
+    int maxTermFrequency() {
+        return maxTermFrequency;
+    }
+
+    int minLength() {
+        return minLength;
+    }
+
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    // Keeps the postings of documents that pass, renumbered by remap, which must preserve order
+    PostingList retain(IntPredicate live, IntUnaryOperator remap, IntUnaryOperator lengthOf) {
+        PostingList retained = new PostingList();
+        Cursor cursor = cursor();
+        while (cursor.next()) {
+            int docId = cursor.docId();
+            if (live.test(docId)) {
+                retained.add(remap.applyAsInt(docId), cursor.termFrequency(), lengthOf.applyAsInt(docId));
+            }
+        }
+        return retained;
+    }
+
+    private void writeVarInt(int value) {
+        if (length + 5 > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + 5));
+        }
+        while ((value & ~0x7F) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    final class Cursor {
+
+        private int index = -1;
+        private int offset;
+        private int docId = -1;
+        private int termFrequency;
+
+        boolean next() {
+            if (index + 1 >= count) {
+                index = count;
+                docId = NO_MORE_DOCS;
+                return false;
+            }
+            index++;
+            docId += readVarInt();
+            termFrequency = readVarInt();
+            return true;
+        }
+
+        // Moves to the first posting at or after target, skipping blocks that end before it
+        boolean advance(int target) {
+            if (docId >= target) {
+                return docId != NO_MORE_DOCS;
+            }
+            int block = Math.max(index, 0) / BLOCK_SIZE;
+            if (blockLastDocIds[block] < target) {
+                int lastBlock = (count - 1) / BLOCK_SIZE;
+                do {
+                    block++;
+                } while (block <= lastBlock && blockLastDocIds[block] < target);
+                if (block > lastBlock) {
+                    index = count;
+                    docId = NO_MORE_DOCS;
+                    return false;
+                }
+                index = block * BLOCK_SIZE - 1;
+                offset = blockOffsets[block];
+                docId = block == 0 ? -1 : blockLastDocIds[block - 1];
+            }
+            while (next()) {
+                if (docId >= target) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        int docId() {
+            return docId;
+        }
+
+        int termFrequency() {
+            return termFrequency;
+        }
+
+        int blockLastDocId() {
+            return blockLastDocIds[index / BLOCK_SIZE];
+        }
+
+        int blockMaxTermFrequency() {
+            return blockMaxTermFrequencies[index / BLOCK_SIZE];
+        }
+
+        int blockMinLength() {
+            return blockMinLengths[index / BLOCK_SIZE];
+        }
+
+        private int readVarInt() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[offset++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+    }
+}
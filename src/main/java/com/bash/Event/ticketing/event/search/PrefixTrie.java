@@ -0,0 +1,165 @@
+package com.bash.Event.ticketing.event.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+// Indexed terms by prefix, for autocomplete ranked by document frequency. Nodes for prefixes of
+// up to PRECOMPUTED_DEPTH characters keep their best completions, since their subtrees are the
+// large ones; longer prefixes are answered by walking their small subtree. Counts only ever go
+// up between rebuilds, which is what keeps the precomputed lists exact.
+final class PrefixTrie {
+
+    static final int MAX_SUGGESTIONS = 10;
+    private static final int PRECOMPUTED_DEPTH = 3;
+
+    private static final Comparator<Node> BY_RANK = Comparator
+            .comparingInt((Node node) -> node.count)
+            .thenComparing(node -> node.term, Comparator.reverseOrder());
+
+    private final Node root = new Node();
+    // Terms are re-put on every new posting, so their nodes are found without walking the trie
+    private final Map<String, Node> leaves = new HashMap<>();
+
+    void put(String term, int count) {
+        Node node = leaves.get(term);
+        if (node == null) {
+            node = root;
+            Node[] path = new Node[Math.min(term.length(), PRECOMPUTED_DEPTH)];
+            for (int i = 0; i < term.length(); i++) {
+                node = node.child(term.charAt(i), true);
+                if (i < PRECOMPUTED_DEPTH) {
+                    path[i] = node;
+                }
+            }
+            node.term = term;
+            node.prefixes = path;
+            leaves.put(term, node);
+        }
+        node.count = count;
+        for (Node prefix : node.prefixes) {
+            prefix.offer(node);
+        }
+    }
+
+    List<String> complete(String prefix, int limit) {
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.child(prefix.charAt(i), false);
+        }
+        if (node == null) {
+            return List.of();
+        }
+        int bounded = Math.min(limit, MAX_SUGGESTIONS);
+        if (node.top != null) {
+            List<String> terms = new ArrayList<>(Math.min(bounded, node.topSize));
+            for (int i = 0; i < node.topSize && terms.size() < bounded; i++) {
+                terms.add(node.top[i].term);
+            }
+            return terms;
+        }
+        PriorityQueue<Node> best = new PriorityQueue<>(bounded + 1, BY_RANK);
+        collect(node, best, bounded);
+        List<Node> ranked = new ArrayList<>(best);
+        ranked.sort(BY_RANK.reversed());
+        return ranked.stream().map(completion -> completion.term).toList();
+    }
+
+    private static void collect(Node node, PriorityQueue<Node> best, int limit) {
+        if (node.term != null) {
+            best.add(node);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        for (int i = 0; i < node.childCount; i++) {
+            collect(node.children[i], best, limit);
+        }
+    }
+
+    private static final class Node {
+
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private int childCount;
+
+        // Set on the node that ends an indexed term
+        private String term;
+        private int count;
+        private Node[] prefixes;
+
+        // Best completions, highest count first; only on nodes within PRECOMPUTED_DEPTH
+        private Node[] top;
+        private int topSize;
+
+        private Node child(char key, boolean create) {
+            int index = Arrays.binarySearch(keys, 0, childCount, key);
+            if (index >= 0) {
+                return children[index];
+            }
+            if (!create) {
+                return null;
+            }
+            int insertAt = -index - 1;
+            if (childCount == keys.length) {
+                int capacity = Math.max(2, childCount * 2);
+                keys = Arrays.copyOf(keys, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(keys, insertAt, keys, insertAt + 1, childCount - insertAt);
+            System.arraycopy(children, insertAt, children, insertAt + 1, childCount - insertAt);
+            Node child = new Node();
+            keys[insertAt] = key;
+            children[insertAt] = child;
+            childCount++;
+            return child;
+        }
+
+        // The candidate's count has just gone up, so it can only move towards the front
+        private void offer(Node candidate) {
+            if (top == null) {
+                top = new Node[MAX_SUGGESTIONS];
+            }
+            // A listed candidate counts at least as much as the last entry, so this is never one
+            if (topSize == MAX_SUGGESTIONS && candidate.count < top[topSize - 1].count) {
+                return;
+            }
+            int position = indexOf(candidate);
+            if (position < 0) {
+                if (topSize < MAX_SUGGESTIONS) {
+                    position = topSize++;
+                } else if (BY_RANK.compare(candidate, top[topSize - 1]) > 0) {
+                    position = topSize - 1;
+                } else {
+                    return;
+                }
+                top[position] = candidate;
+            }
+            while (position > 0 && BY_RANK.compare(top[position], top[position - 1]) > 0) {
+                Node swap = top[position - 1];
+                top[position - 1] = top[position];
+                top[position] = swap;
+                position--;
+            }
+        }
+
+        private int indexOf(Node candidate) {
+            for (int i = 0; i < topSize; i++) {
+                if (top[i] == candidate) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.bash.Event.ticketing.event.search;
+
+import java.util.UUID;
+
+public record SearchHit(UUID eventId, double score) {
+}
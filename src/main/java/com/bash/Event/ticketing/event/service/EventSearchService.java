@@ -0,0 +1,12 @@
+package com.bash.Event.ticketing.event.service;
+
+import com.bash.Event.ticketing.event.search.SearchHit;
+
+import java.util.List;
+
+public interface EventSearchService {
+
+    List<SearchHit> search(String query, int limit);
+
+    List<String> suggest(String prefix, int limit);
+}
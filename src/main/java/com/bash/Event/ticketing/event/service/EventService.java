@@ -2,11 +2,15 @@ package com.bash.Event.ticketing.event.service;
 
 
 import com.bash.Event.ticketing.event.dto.request.EventRequest;
+import com.bash.Event.ticketing.event.dto.response.CursorPage;
 import com.bash.Event.ticketing.event.dto.response.EventResponse;
+import com.bash.Event.ticketing.event.dto.response.EventSearchResponse;
 import com.bash.Event.ticketing.event.dto.response.MessageResponse;
+import com.bash.Event.ticketing.event.dto.response.TrendingEventResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface EventService {
@@ -22,4 +26,14 @@ public interface EventService {
     MessageResponse<Page<EventResponse>> getAllEvents(Pageable pageable);
 
     MessageResponse<Page<EventResponse>> getUserEvents(Pageable pageable);
+
+    MessageResponse<CursorPage<EventResponse>> getEventsAfter(String cursor, int size);
+
+    MessageResponse<CursorPage<EventResponse>> getUserEventsAfter(String cursor, int size);
+
+    MessageResponse<List<TrendingEventResponse>> getTrendingEvents(int limit);
+
+    MessageResponse<List<EventSearchResponse>> searchEvents(String query, int limit);
+
+    MessageResponse<List<String>> suggestSearchTerms(String prefix, int limit);
 }
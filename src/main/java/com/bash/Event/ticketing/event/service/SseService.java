@@ -1,14 +1,21 @@
 package com.bash.Event.ticketing.event.service;
 
+import com.bash.Event.ticketing.event.sse.SseMode;
+import com.bash.Event.ticketing.event.sse.SseSink;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.Collection;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 public interface SseService {
 
-    SseEmitter subscribe(String clientId);
-    void sendEventUpdate(UUID eventId, String eventType, Object data);
-    void sendTicketUpdate(UUID eventId, String eventType, Object data);
+    SseEmitter subscribe(String clientId, Collection<String> topics, SseMode mode, Long lastEventId, String remoteAddress);
+    void stream(String clientId, Collection<String> topics, SseMode mode, Long lastEventId, String remoteAddress,
+                Supplier<SseSink> sinkFactory);
+    void sendEventUpdate(UUID eventId, String ownerEmail, String eventType, Object data);
+    void sendTicketUpdate(UUID ticketId, UUID eventId, String ownerEmail, String eventType, Object data);
     void sendDashboardUpdate(Object data);
     void removeClient(String clientId);
+    int getConnectionCount();
 }
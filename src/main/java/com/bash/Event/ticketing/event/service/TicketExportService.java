@@ -0,0 +1,13 @@
+package com.bash.Event.ticketing.event.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+import java.util.UUID;
+
+public interface TicketExportService {
+    StreamingResponseBody exportEventCsv(UUID eventId);
+
+    // How long an export may keep its async request open
+    Duration getExportTimeout();
+}
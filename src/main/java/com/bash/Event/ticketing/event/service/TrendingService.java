@@ -0,0 +1,13 @@
+package com.bash.Event.ticketing.event.service;
+
+import com.bash.Event.ticketing.event.dto.response.TrendingEventResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface TrendingService {
+    void recordView(UUID eventId);
+    void recordPurchase(UUID eventId, int quantity);
+    void removeEvent(UUID eventId);
+    List<TrendingEventResponse> getTopEvents(int limit);
+}
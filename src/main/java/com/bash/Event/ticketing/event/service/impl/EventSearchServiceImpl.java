@@ -0,0 +1,192 @@
+package com.bash.Event.ticketing.event.service.impl;
+
+import com.bash.Event.ticketing.cache.CacheInvalidation;
+import com.bash.Event.ticketing.cache.CacheInvalidationBus;
+import com.bash.Event.ticketing.cache.CacheNames;
+import com.bash.Event.ticketing.event.model.Address;
+import com.bash.Event.ticketing.event.model.Event;
+import com.bash.Event.ticketing.event.repository.EventRepository;
+import com.bash.Event.ticketing.event.search.EventSearchIndex;
+import com.bash.Event.ticketing.event.search.SearchHit;
+import com.bash.Event.ticketing.event.service.EventSearchService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Keeps every event in an in-memory EventSearchIndex. The index is built in the background once
+// the application is ready, then follows event writes through the cache invalidation bus, which
+// reaches every node, so each node's index sees writes made anywhere. Searches find nothing until
+// the first build finishes.
+@Service
+@Slf4j
+public class EventSearchServiceImpl implements EventSearchService {
+
+    private static final UUID FIRST_ID = new UUID(0, 0);
+    private static final int UUID_LENGTH = 36;
+
+    private final EventRepository eventRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final int batchSize;
+    // Builds and updates run one at a time in the order they were asked for, so an update
+    // arriving during a rebuild is applied to the rebuilt index
+    private final Executor indexer;
+
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+    private volatile EventSearchIndex index = new EventSearchIndex();
+
+    @Autowired
+    public EventSearchServiceImpl(EventRepository eventRepository, CacheInvalidationBus invalidationBus,
+                                  @Value("${app.search.rebuild-batch-size:1000}") int batchSize) {
+        this(eventRepository, invalidationBus, batchSize,
+                Executors.newSingleThreadExecutor(new CustomizableThreadFactory("EventSearchIndex-")));
+    }
+
+    EventSearchServiceImpl(EventRepository eventRepository, CacheInvalidationBus invalidationBus, int batchSize,
+                           Executor indexer) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Search rebuild batch size must be positive");
+        }
+        this.eventRepository = eventRepository;
+        this.invalidationBus = invalidationBus;
+        this.batchSize = batchSize;
+        this.indexer = indexer;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        invalidationBus.addListener(this::onInvalidation);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        requestRebuild();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (indexer instanceof ExecutorService executor) {
+            executor.shutdownNow();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Override
+    public List<SearchHit> search(String query, int limit) {
+        return index.search(query, limit);
+    }
+
+    @Override
+    public List<String> suggest(String prefix, int limit) {
+        return index.suggest(prefix, limit);
+    }
+
+    // Every create, update and delete evicts the event's details by id; keys that are not ids
+    // are ignored. A cleared cache, or every cache after the bus
+    // reconnects, means writes may have been missed, so the index is rebuilt.
+    void onInvalidation(CacheInvalidation invalidation) {
+        invalidation.entries().forEach(this::onInvalidation);
+    }
+
+    private void onInvalidation(CacheInvalidation.Entry entry) {
+        if (entry.cacheName() != null && !CacheNames.EVENTS.equals(entry.cacheName())) {
+            return;
+        }
+        if (entry.key() == null) {
+            requestRebuild();
+            return;
+        }
+        UUID eventId = parseEventId(entry.key());
+        if (eventId != null) {
+            submit(() -> reindex(eventId));
+        }
+    }
+
+    // Any number of requests made before the rebuild starts share it
+    private void requestRebuild() {
+        if (rebuildPending.compareAndSet(false, true)) {
+            submit(this::rebuild);
+        }
+    }
+
+    void rebuild() {
+        rebuildPending.set(false);
+        long started = System.nanoTime();
+        EventSearchIndex rebuilt = new EventSearchIndex();
+        // Keyset batches by id, so the whole table is read without deep offsets or one huge result
+        UUID after = FIRST_ID;
+        List<Event> batch;
+        do {
+            batch = eventRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(batchSize));
+            batch.forEach(event -> index(rebuilt, event));
+            if (!batch.isEmpty()) {
+                after = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == batchSize);
+        index = rebuilt;
+        log.info("Search index built with {} events in {} ms", rebuilt.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private void reindex(UUID eventId) {
+        eventRepository.findById(eventId)
+                .ifPresentOrElse(event -> index(index, event), () -> index.remove(eventId));
+    }
+
+    private void submit(Runnable task) {
+        try {
+            indexer.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    // Leaves the index as it was; the next write or rebuild catches it up
+                    log.warn("Search index update failed", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Search indexer is shut down, dropping update");
+        }
+    }
+
+    private static void index(EventSearchIndex target, Event event) {
+        target.index(event.getId(), event.getTitle(), event.getDescription(), venueText(event.getVenue()));
+    }
+
+    private static String venueText(Address venue) {
+        if (venue == null) {
+            return null;
+        }
+        return Stream.of(venue.getVenueName(), venue.getStreetAddress(), venue.getCity(), venue.getCountry())
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining(" "));
+    }
+
+    private static UUID parseEventId(String key) {
+        if (key.length() != UUID_LENGTH) {
+            return null;
+        }
+        try {
+            return UUID.fromString(key);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
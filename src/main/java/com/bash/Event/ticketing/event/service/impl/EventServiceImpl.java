@@ -1,27 +1,44 @@
 package com.bash.Event.ticketing.event.service.impl;
 
 import com.bash.Event.ticketing.Exceptions.EventNotFoundException;
+import com.bash.Event.ticketing.cache.CacheNames;
+import com.bash.Event.ticketing.cache.EventPageIndex;
+import com.bash.Event.ticketing.cache.MissingIdCache;
+import com.bash.Event.ticketing.event.domain.EventChanged;
 import com.bash.Event.ticketing.event.dto.request.EventRequest;
+import com.bash.Event.ticketing.event.dto.response.CursorPage;
 import com.bash.Event.ticketing.event.dto.response.EventResponse;
+import com.bash.Event.ticketing.event.dto.response.EventSearchResponse;
 import com.bash.Event.ticketing.event.dto.response.MessageResponse;
+import com.bash.Event.ticketing.event.dto.response.TrendingEventResponse;
 import com.bash.Event.ticketing.event.mappers.EventMapper;
 import com.bash.Event.ticketing.event.model.Event;
 import com.bash.Event.ticketing.event.repository.EventRepository;
+import com.bash.Event.ticketing.event.search.SearchHit;
 import com.bash.Event.ticketing.event.service.EventOwnershipService;
+import com.bash.Event.ticketing.event.service.EventSearchService;
 import com.bash.Event.ticketing.event.service.EventService;
-import com.bash.Event.ticketing.event.service.SseService;
+import com.bash.Event.ticketing.event.service.TrendingService;
+import com.bash.Event.ticketing.event.util.EventCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,13 +46,23 @@ import java.util.stream.Collectors;
 @Slf4j
 public class EventServiceImpl implements EventService {
 
+    private static final int MAX_TRENDING_LIMIT = 50;
+    private static final int MAX_SEARCH_LIMIT = 50;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    // Offset listings, in the same (start_time, id) order as the cursor pages, served by its index
+    static final Sort LISTING_ORDER = Sort.by("startTime", "id");
+
     private final EventRepository eventRepository;
     private final EventMapper eventMapper;
-    private final SseService sseService;
     private final EventOwnershipService eventOwnershipService;
+    private final TrendingService trendingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EventPageIndex eventPageIndex;
+    private final MissingIdCache missingIdCache;
+    private final EventSearchService eventSearchService;
 
     @Override
-    @CacheEvict(value = {"events", "dashboard"}, allEntries = true)
+    @Transactional
     public MessageResponse<EventResponse> createEvent(EventRequest eventRequest) {
         log.info("Creating event with request: {}", eventRequest);
         
@@ -54,13 +81,13 @@ public class EventServiceImpl implements EventService {
         EventResponse eventResponse = eventMapper.mapToEventResponse(eventRepository.save(event));
         log.info("Event created successfully by user {}: {}", userEmail, eventResponse);
         
-        sseService.sendEventUpdate(eventResponse.getEventId(), "CREATED", eventResponse);
+        eventPublisher.publishEvent(new EventChanged(eventResponse.getEventId(), userEmail, EventChanged.CREATED, eventResponse));
         
         return MessageResponse.success("Event Created Successfully", eventResponse);
     }
 
     @Override
-    @CacheEvict(value = {"events", "dashboard"}, allEntries = true)
+    @Transactional
     public MessageResponse<EventResponse> updateEvent(UUID eventId, EventRequest eventRequest) {
         log.info("Updating event with ID: {} and request: {}", eventId, eventRequest);
         
@@ -73,6 +100,8 @@ public class EventServiceImpl implements EventService {
                 .orElseThrow(() -> new EventNotFoundException("Event not found with ID: " + eventId));
 
         Event updatedEvent = eventMapper.mapToEvent(eventRequest);
+        boolean rescheduled = updatedEvent.getStartTime() != null
+                && !updatedEvent.getStartTime().equals(existingEvent.getStartTime());
 
         if(updatedEvent.getTitle() != null){
             existingEvent.setTitle(updatedEvent.getTitle());
@@ -93,25 +122,29 @@ public class EventServiceImpl implements EventService {
         EventResponse eventResponse = eventMapper.mapToEventResponse(eventRepository.save(existingEvent));
         log.info("Event updated successfully by user {}: {}", userEmail, eventResponse);
         
-        // Send SSE notification
-        sseService.sendEventUpdate(eventId, "UPDATED", eventResponse);
+        // Notifications go out after commit
+        eventPublisher.publishEvent(new EventChanged(eventId, existingEvent.getCreatedBy(), EventChanged.UPDATED, eventResponse,
+                rescheduled));
         
         return MessageResponse.success("Event Updated Successfully", eventResponse);
     }
 
     @Override
-    @Cacheable(value = "events", key = "#eventId")
+    @Cacheable(value = CacheNames.EVENTS, key = "#eventId", sync = true)
     public MessageResponse<EventResponse> getEventById(UUID eventId) {
         log.info("Retrieving event with ID: {}", eventId);
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new EventNotFoundException("Event not found with ID: " + eventId));
+        // Known-missing ids are turned away by the controller before the cache is consulted
+        Event event = eventRepository.findById(eventId).orElseThrow(() -> {
+            missingIdCache.recordMissing(MissingIdCache.eventKey(eventId));
+            return new EventNotFoundException("Event not found with ID: " + eventId);
+        });
         EventResponse eventResponse = eventMapper.mapToEventResponse(event);
         log.info("Event retrieved successfully: {}", eventResponse);
         return MessageResponse.success("Event Retrieved Successfully", eventResponse);
     }
 
     @Override
-    @CacheEvict(value = {"events", "dashboard"}, allEntries = true)
+    @Transactional
     public MessageResponse<Void> deleteEvent(UUID eventId) {
         log.info("Deleting event with ID: {}", eventId);
         
@@ -126,16 +159,21 @@ public class EventServiceImpl implements EventService {
         eventRepository.delete(event);
         log.info("Event deleted successfully by user {}: {}", userEmail, eventId);
         
-        sseService.sendEventUpdate(eventId, "DELETED", null);
+        eventPublisher.publishEvent(new EventChanged(eventId, event.getCreatedBy(), EventChanged.DELETED, null));
         
         return MessageResponse.success("Event Deleted Successfully", null);
     }
 
     @Override
-    @Cacheable(value = "events", key = "#pageable.pageNumber + '_' + #pageable.pageSize")
+    @Cacheable(value = CacheNames.EVENT_PAGES, key = "T(com.bash.Event.ticketing.cache.EventPageIndex).pageKey(#pageable)", sync = true)
     public MessageResponse<Page<EventResponse>> getAllEvents(Pageable pageable) {
         log.info("Retrieving all events");
-        Page<Event> events = eventRepository.findAll(pageable);
+        // Cached pages are evicted on the assumption that an update leaves every other event in place,
+        // which only holds for a total order
+        Page<Event> events = eventRepository.findAll(
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), LISTING_ORDER));
+        // Only runs on a cache miss, right before the page is cached
+        eventPageIndex.record(EventPageIndex.pageKey(pageable), events.map(Event::getId).getContent());
         if (events.isEmpty()) {
             log.warn("No events found");
             return MessageResponse.success("No events found", Page.empty());
@@ -177,4 +215,108 @@ public class EventServiceImpl implements EventService {
         return MessageResponse.success("User Events Retrieved Successfully", eventResponses);
     }
 
+    @Override
+    public MessageResponse<CursorPage<EventResponse>> getEventsAfter(String cursor, int size) {
+        int limit = boundedCursorPageSize(size);
+        List<Event> events;
+        if (cursor == null || cursor.isBlank()) {
+            events = eventRepository.findFirstByStartTime(limit + 1);
+        } else {
+            EventCursor after = EventCursor.decode(cursor);
+            events = eventRepository.findAfterByStartTime(after.startTime(), after.id(), limit + 1);
+        }
+        return MessageResponse.success("Events Retrieved Successfully", toCursorPage(events, limit));
+    }
+
+    @Override
+    public MessageResponse<CursorPage<EventResponse>> getUserEventsAfter(String cursor, int size) {
+        String userEmail = SecurityContextHolder.getContext().getAuthentication().getName();
+        int limit = boundedCursorPageSize(size);
+        List<Event> events;
+        if (cursor == null || cursor.isBlank()) {
+            events = eventRepository.findFirstByCreatedByAndStartTime(userEmail, limit + 1);
+        } else {
+            EventCursor after = EventCursor.decode(cursor);
+            events = eventRepository.findAfterByCreatedByAndStartTime(userEmail, after.startTime(), after.id(), limit + 1);
+        }
+        return MessageResponse.success("User Events Retrieved Successfully", toCursorPage(events, limit));
+    }
+
+    @Override
+    public MessageResponse<List<TrendingEventResponse>> getTrendingEvents(int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_TRENDING_LIMIT));
+        List<TrendingEventResponse> trending = trendingService.getTopEvents(boundedLimit);
+        if (trending.isEmpty()) {
+            return MessageResponse.success("No trending events", trending);
+        }
+
+        // Ranking comes from memory; only the winners are resolved by primary key
+        Map<UUID, Event> events = eventRepository.findAllById(
+                        trending.stream().map(TrendingEventResponse::getEventId).toList())
+                .stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+
+        List<TrendingEventResponse> responses = new ArrayList<>(trending.size());
+        for (TrendingEventResponse entry : trending) {
+            Event event = events.get(entry.getEventId());
+            if (event != null) {
+                entry.setEvent(eventMapper.mapToEventResponse(event));
+                responses.add(entry);
+            }
+        }
+
+        return MessageResponse.success("Trending Events Retrieved Successfully", responses);
+    }
+
+    @Override
+    public MessageResponse<List<EventSearchResponse>> searchEvents(String query, int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+        List<SearchHit> hits = eventSearchService.search(query, boundedLimit);
+        if (hits.isEmpty()) {
+            return MessageResponse.success("No matching events", List.of());
+        }
+
+        // Ranked in memory like trending; only the hits are loaded, in one primary key query
+        Map<UUID, Event> events = eventRepository.findAllById(hits.stream().map(SearchHit::eventId).toList())
+                .stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+
+        List<EventSearchResponse> responses = new ArrayList<>(hits.size());
+        for (SearchHit hit : hits) {
+            Event event = events.get(hit.eventId());
+            if (event != null) {
+                responses.add(EventSearchResponse.builder()
+                        .eventId(hit.eventId())
+                        .score(hit.score())
+                        .event(eventMapper.mapToEventResponse(event))
+                        .build());
+            }
+        }
+
+        return MessageResponse.success("Events Found Successfully", responses);
+    }
+
+    @Override
+    public MessageResponse<List<String>> suggestSearchTerms(String prefix, int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+        return MessageResponse.success("Search Suggestions Retrieved Successfully",
+                eventSearchService.suggest(prefix, boundedLimit));
+    }
+
+    private static int boundedCursorPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+    }
+
+    // One row beyond the page is fetched to learn whether another page follows, instead of counting
+    private CursorPage<EventResponse> toCursorPage(List<Event> events, int limit) {
+        boolean hasNext = events.size() > limit;
+        List<Event> page = hasNext ? events.subList(0, limit) : events;
+        return CursorPage.<EventResponse>builder()
+                .content(page.stream().map(eventMapper::mapToEventResponse).toList())
+                .size(page.size())
+                .nextCursor(hasNext ? EventCursor.after(page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
 }
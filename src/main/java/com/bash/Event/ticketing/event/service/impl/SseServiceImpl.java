@@ -1,114 +1,423 @@
 package com.bash.Event.ticketing.event.service.impl;
 
+import com.bash.Event.ticketing.Exceptions.SseConnectionLimitException;
+import com.bash.Event.ticketing.config.SseProperties;
 import com.bash.Event.ticketing.event.service.SseService;
+import com.bash.Event.ticketing.event.sse.SseBroadcast;
+import com.bash.Event.ticketing.event.sse.EmitterSseSink;
+import com.bash.Event.ticketing.event.sse.SseBroadcastBus;
+import com.bash.Event.ticketing.event.sse.SseClient;
+import com.bash.Event.ticketing.event.sse.SseDeltaEncoder;
+import com.bash.Event.ticketing.event.sse.SseFrame;
+import com.bash.Event.ticketing.event.sse.SseMode;
+import com.bash.Event.ticketing.event.sse.SseReplayBuffer;
+import com.bash.Event.ticketing.event.sse.SseSink;
+import com.bash.Event.ticketing.event.sse.SseTopics;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class SseServiceImpl implements SseService {
 
-    private final Map<String, SseEmitter> clients = new ConcurrentHashMap<>();
+    private static final SseFrame CONNECTED_FRAME = SseFrame.event("connection", "Connected successfully");
+
+    private final Map<String, SseClient> clients = new ConcurrentHashMap<>();
+    // topic -> subscribed clients, so a message only visits the clients that asked for it
+    private final Map<String, Set<SseClient>> subscribers = new ConcurrentHashMap<>();
+    private final Map<String, Integer> connectionsPerIp = new ConcurrentHashMap<>();
     private final ObjectMapper objectMapper;
+    private final Executor senderExecutor;
+    private final SseBroadcastBus broadcastBus;
+    private final int queueCapacity;
+    private final long idleTimeoutMillis;
+    private final int maxConnections;
+    private final int maxConnectionsPerIp;
+    private final LongSupplier clock;
+    private final SseReplayBuffer replayBuffer;
+    private final SseDeltaEncoder deltaEncoder;
+    // Connected delta-mode clients; with none, updates are not parsed for delta variants
+    private final AtomicInteger deltaClients = new AtomicInteger();
+    private final boolean batching;
+    // topic set -> ticket id -> latest update json, flushed every tick; guarded by publishLock
+    private final Map<Set<String>, Map<String, String>> pendingBatches = new LinkedHashMap<>();
+
+    // Guards id assignment, the replay buffer and fan-out ordering, so a resuming client
+    // sees exactly the frames it missed followed by live ones, in id order
+    private final Object publishLock = new Object();
+    // Seeded from the clock so ids keep increasing across restarts. Ids are node-local: an id issued by
+    // another node falls outside this node's range, so a client that reconnects elsewhere gets a resync
+    private final long firstEventId = System.currentTimeMillis() * 1000;
+    private final AtomicLong lastEventId = new AtomicLong(firstEventId - 1);
+
+    @Autowired
+    public SseServiceImpl(ObjectMapper objectMapper,
+                          @Qualifier("sseTaskExecutor") Executor senderExecutor,
+                          SseProperties sseProperties,
+                          SseBroadcastBus broadcastBus) {
+        this(objectMapper, senderExecutor, sseProperties, broadcastBus, System::currentTimeMillis);
+    }
+
+    SseServiceImpl(ObjectMapper objectMapper, Executor senderExecutor, SseProperties sseProperties,
+                   SseBroadcastBus broadcastBus, LongSupplier clock) {
+        this.objectMapper = objectMapper;
+        this.senderExecutor = senderExecutor;
+        this.broadcastBus = broadcastBus;
+        this.queueCapacity = sseProperties.getQueueCapacity();
+        this.idleTimeoutMillis = sseProperties.getIdleTimeout().toMillis();
+        this.maxConnections = sseProperties.getMaxConnections();
+        this.maxConnectionsPerIp = sseProperties.getMaxConnectionsPerIp();
+        this.clock = clock;
+        this.deltaEncoder = new SseDeltaEncoder(sseProperties.getDeltaMaxEntities());
+        this.batching = sseProperties.getBatching().isEnabled();
+        this.replayBuffer = new SseReplayBuffer(
+                sseProperties.getReplay().getBufferSize(), sseProperties.getReplay().getMaxTopics());
+        broadcastBus.addListener(this::onBroadcast);
+    }
 
     @Override
-    public SseEmitter subscribe(String clientId) {
-        SseEmitter emitter = new SseEmitter(Long.MAX_VALUE);
-        
-        emitter.onCompletion(() -> {
-            log.info("SSE connection completed for client: {}", clientId);
-            clients.remove(clientId);
-        });
-        
-        emitter.onTimeout(() -> {
-            log.info("SSE connection timed out for client: {}", clientId);
-            clients.remove(clientId);
-        });
-        
-        emitter.onError((ex) -> {
-            log.error("SSE connection error for client: {}", clientId, ex);
-            clients.remove(clientId);
-        });
-
-        clients.put(clientId, emitter);
-        log.info("New SSE client connected: {}", clientId);
-        
-        // Send initial connection confirmation
-        try {
-            emitter.send(SseEmitter.event()
-                    .name("connection")
-                    .data("Connected successfully"));
-        } catch (IOException e) {
-            log.error("Error sending initial message to client: {}", clientId, e);
-            clients.remove(clientId);
-        }
-        
+    public SseEmitter subscribe(String clientId, Collection<String> topics, SseMode mode,
+                                Long resumeFromEventId, String remoteAddress) {
+        SseEmitter emitter = createEmitter();
+        connect(clientId, topics, mode, resumeFromEventId, remoteAddress, () -> new EmitterSseSink(emitter));
         return emitter;
     }
 
     @Override
-    public void sendEventUpdate(UUID eventId, String eventType, Object data) {
-        Map<String, Object> message = Map.of(
-                "type", "event_update",
-                "eventId", eventId,
-                "eventType", eventType,
-                "data", data,
-                "timestamp", System.currentTimeMillis()
-        );
-        broadcastMessage("event_update", message);
+    public void stream(String clientId, Collection<String> topics, SseMode mode, Long resumeFromEventId,
+                       String remoteAddress, Supplier<SseSink> sinkFactory) {
+        connect(clientId, topics, mode, resumeFromEventId, remoteAddress, sinkFactory);
+    }
+
+    // Shared by both transports. Topics and connection limits are checked before the sink is
+    // opened, so a rejected request still gets an ordinary error response.
+    private void connect(String clientId, Collection<String> topics, SseMode mode, Long resumeFromEventId,
+                         String remoteAddress, Supplier<SseSink> sinkFactory) {
+        Set<String> resolvedTopics = SseTopics.parse(topics);
+        reserveSlot(clientId, remoteAddress);
+        SseSink sink = null;
+        SseClient client;
+        // Until the client is registered, nothing else will give the reserved slot back
+        try {
+            sink = sinkFactory.get();
+            client = new SseClient(clientId, sink, resolvedTopics, mode, queueCapacity, remoteAddress, clock);
+            sink.onClose(() -> {
+                if (unregister(client)) {
+                    log.info("SSE connection closed for client: {}", clientId);
+                }
+            });
+
+            // Initial connection confirmation goes first through the same queue as everything else
+            client.offer(CONNECTED_FRAME);
+            synchronized (publishLock) {
+                if (resumeFromEventId != null) {
+                    replay(client, resumeFromEventId);
+                }
+                register(client);
+            }
+        } catch (RuntimeException | Error e) {
+            releaseSlot(remoteAddress);
+            if (sink != null) {
+                // The stream is already open; end it rather than leave the request hanging
+                sink.complete();
+            }
+            throw e;
+        }
+        log.info("New SSE client connected: {} with topics {} in {} mode", clientId, resolvedTopics, mode);
+        scheduleDrain(client);
+    }
+
+    private void replay(SseClient client, long resumeFromEventId) {
+        SseReplayBuffer.Replay replay = resumeFromEventId < firstEventId - 1 || resumeFromEventId > lastEventId.get()
+                ? new SseReplayBuffer.Replay(List.of(), true)
+                : replayBuffer.since(client.getTopics(), resumeFromEventId);
+        if (replay.gap() || replay.frames().size() >= queueCapacity) {
+            log.info("SSE client {} cannot resume from {}, sending resync", client.getClientId(), resumeFromEventId);
+            client.offer(SseFrame.RESYNC);
+            return;
+        }
+        log.info("Replaying {} missed frames to SSE client {}", replay.frames().size(), client.getClientId());
+        replay.frames().forEach(client::offer);
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void sendEventUpdate(UUID eventId, String ownerEmail, String eventType, Object data) {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("type", "event_update");
+        message.put("eventId", eventId);
+        message.put("eventType", eventType);
+        message.put("data", data);
+        message.put("timestamp", System.currentTimeMillis());
+        broadcastMessage("event_update", SseTopics.forEvent(eventId, ownerEmail), message, null);
     }
 
     @Override
-    public void sendTicketUpdate(UUID ticketId, String eventType, Object data) {
-        Map<String, Object> message = Map.of(
-                "type", "ticket_update",
-                "ticketId", ticketId,
-                "eventType", eventType,
-                "data", data,
-                "timestamp", System.currentTimeMillis()
-        );
-        broadcastMessage("ticket_update", message);
+    public void sendTicketUpdate(UUID ticketId, UUID eventId, String ownerEmail, String eventType, Object data) {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("type", "ticket_update");
+        message.put("ticketId", ticketId);
+        message.put("eventId", eventId);
+        message.put("eventType", eventType);
+        message.put("data", data);
+        message.put("timestamp", System.currentTimeMillis());
+        broadcastMessage("ticket_update", SseTopics.forEvent(eventId, ownerEmail), message,
+                ticketId != null ? ticketId.toString() : null);
     }
 
     @Override
     public void sendDashboardUpdate(Object data) {
-        Map<String, Object> message = Map.of(
-                "type", "dashboard_update",
-                "data", data,
-                "timestamp", System.currentTimeMillis()
-        );
-        broadcastMessage("dashboard_update", message);
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("type", "dashboard_update");
+        message.put("data", data);
+        message.put("timestamp", System.currentTimeMillis());
+        broadcastMessage("dashboard_update", Set.of(SseTopics.DASHBOARD), message, null);
     }
 
     @Override
     public void removeClient(String clientId) {
-        SseEmitter emitter = clients.remove(clientId);
-        if (emitter != null) {
-            emitter.complete();
+        SseClient client = clients.get(clientId);
+        if (client != null && unregister(client)) {
+            client.complete();
             log.info("Client removed: {}", clientId);
         }
     }
 
-    private void broadcastMessage(String eventName, Object data) {
-        clients.entrySet().removeIf(entry -> {
+    @Override
+    public int getConnectionCount() {
+        return clients.size();
+    }
+
+    // One pass over all clients: reap connections that have not written successfully within the
+    // idle limit, and queue a heartbeat comment on the quiet ones so dead sockets fail their next write
+    @Scheduled(fixedRateString = "${app.sse.heartbeat-interval:15s}", initialDelayString = "${app.sse.heartbeat-interval:15s}")
+    public void sendHeartbeats() {
+        long idleSince = clock.getAsLong() - idleTimeoutMillis;
+        int reaped = 0;
+        for (SseClient client : clients.values()) {
+            if (client.getLastWriteAt() < idleSince) {
+                evict(client);
+                reaped++;
+            } else if (client.offerHeartbeat()) {
+                scheduleDrain(client);
+            }
+        }
+        if (reaped > 0) {
+            log.info("Reaped {} idle SSE clients, {} still connected", reaped, clients.size());
+        }
+    }
+
+    // Reconnects that replace a client from the same address are always let through,
+    // so a browser retry is never locked out by its own stale connection
+    private void reserveSlot(String clientId, String remoteAddress) {
+        SseClient existing = clients.get(clientId);
+        boolean replacing = existing != null && Objects.equals(existing.getRemoteAddress(), remoteAddress);
+        if (!replacing && clients.size() >= maxConnections) {
+            throw new SseConnectionLimitException("Too many SSE connections, try again later");
+        }
+        if (remoteAddress == null) {
+            return;
+        }
+        int count = connectionsPerIp.merge(remoteAddress, 1, Integer::sum);
+        if (!replacing && count > maxConnectionsPerIp) {
+            releaseSlot(remoteAddress);
+            throw new SseConnectionLimitException("Too many SSE connections from " + remoteAddress);
+        }
+    }
+
+    private void releaseSlot(String remoteAddress) {
+        if (remoteAddress != null) {
+            connectionsPerIp.computeIfPresent(remoteAddress, (key, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    private void register(SseClient client) {
+        SseClient previous = clients.put(client.getClientId(), client);
+        countDeltaClient(client, 1);
+        if (previous != null) {
+            countDeltaClient(previous, -1);
+            removeFromTopics(previous);
+            releaseSlot(previous.getRemoteAddress());
+            previous.complete();
+        }
+        for (String topic : client.getTopics()) {
+            subscribers.compute(topic, (key, members) -> {
+                Set<SseClient> updated = members != null ? members : ConcurrentHashMap.newKeySet();
+                updated.add(client);
+                return updated;
+            });
+        }
+    }
+
+    private boolean unregister(SseClient client) {
+        if (!clients.remove(client.getClientId(), client)) {
+            return false;
+        }
+        countDeltaClient(client, -1);
+        removeFromTopics(client);
+        releaseSlot(client.getRemoteAddress());
+        return true;
+    }
+
+    private void countDeltaClient(SseClient client, int delta) {
+        if (client.getMode() == SseMode.DELTA) {
+            deltaClients.addAndGet(delta);
+        }
+    }
+
+    private void removeFromTopics(SseClient client) {
+        for (String topic : client.getTopics()) {
+            subscribers.computeIfPresent(topic, (key, members) -> {
+                members.remove(client);
+                return members.isEmpty() ? null : members;
+            });
+        }
+    }
+
+    private Set<SseClient> resolveSubscribers(Set<String> topics) {
+        if (topics.contains(SseTopics.ALL)) {
+            return new HashSet<>(clients.values());
+        }
+        Set<SseClient> targets = new HashSet<>(subscribers.getOrDefault(SseTopics.ALL, Set.of()));
+        for (String topic : topics) {
+            targets.addAll(subscribers.getOrDefault(topic, Set.of()));
+        }
+        return targets;
+    }
+
+    private void broadcastMessage(String eventName, Set<String> topics, Object data, String collapseKey) {
+        // Serialize once per broadcast; every client gets the same pre-encoded bytes
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            log.error("Error serializing {} message", eventName, e);
+            return;
+        }
+
+        broadcastBus.publish(new SseBroadcast(eventName, topics, json, collapseKey));
+    }
+
+    // Called by the bus for every broadcast, local or from another node, on the thread that published
+    // or received it. Ids are assigned and frames queued right here, so they follow the order the bus
+    // delivered them in; only offers are made, and the sender pool does the writing.
+    private void onBroadcast(SseBroadcast broadcast) {
+        Set<String> topics = broadcast.topics();
+        synchronized (publishLock) {
+            if (batching && broadcast.collapseKey() != null && !broadcast.isResync()) {
+                Map<String, String> batch = pendingBatches.computeIfAbsent(topics, key -> new LinkedHashMap<>());
+                // Re-insert so a collapsed update takes the position of its latest occurrence
+                batch.remove(broadcast.collapseKey());
+                batch.put(broadcast.collapseKey(), broadcast.json());
+                return;
+            }
+            SseFrame frame = broadcast.isResync()
+                    ? SseFrame.resync(lastEventId.incrementAndGet())
+                    : encode(lastEventId.incrementAndGet(), broadcast);
+            publishFrame(topics, frame);
+        }
+    }
+
+    // Delta clients register under the publish lock, so the first broadcast after one connects is encoded
+    private SseFrame encode(long id, SseBroadcast broadcast) {
+        if (deltaClients.get() == 0) {
+            deltaEncoder.reset();
+            return SseFrame.event(id, broadcast.eventName(), broadcast.json());
+        }
+        return deltaEncoder.encode(id, broadcast.eventName(), broadcast.json());
+    }
+
+    // Sends everything collected since the last tick: one ticket_batch frame per topic set, holding
+    // the latest update of each ticket, so a burst costs each client one write instead of hundreds
+    @Scheduled(fixedDelayString = "${app.sse.batching.tick:100ms}")
+    public void flushBatches() {
+        if (!batching) {
+            return;
+        }
+        synchronized (publishLock) {
+            if (pendingBatches.isEmpty()) {
+                return;
+            }
+            for (Map.Entry<Set<String>, Map<String, String>> batch : pendingBatches.entrySet()) {
+                String json = "{\"type\":\"ticket_batch\",\"updates\":["
+                        + String.join(",", batch.getValue().values()) + "]}";
+                publishFrame(batch.getKey(), SseFrame.event(lastEventId.incrementAndGet(), "ticket_batch", json));
+            }
+            pendingBatches.clear();
+        }
+    }
+
+    private void publishFrame(Set<String> topics, SseFrame frame) {
+        replayBuffer.append(topics, frame);
+        for (SseClient client : resolveSubscribers(topics)) {
+            enqueue(client, frame);
+        }
+    }
+
+    private void enqueue(SseClient client, SseFrame frame) {
+        switch (client.offer(frame)) {
+            case RESYNC -> log.warn("SSE client {} fell behind, queue reset with resync marker", client.getClientId());
+            case OVERFLOWED -> {
+                log.warn("Evicting slow SSE client: {}", client.getClientId());
+                evict(client);
+                return;
+            }
+            default -> {
+            }
+        }
+        scheduleDrain(client);
+    }
+
+    private void scheduleDrain(SseClient client) {
+        if (!client.tryStartDrain()) {
+            return;
+        }
+        try {
+            senderExecutor.execute(() -> {
+                if (!client.drain()) {
+                    log.error("Error sending message to client: {}", client.getClientId());
+                    evict(client);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.error("SSE sender pool rejected drain for client: {}", client.getClientId(), e);
+            client.cancelDrain();
+            evict(client);
+        }
+    }
+
+    private void evict(SseClient client) {
+        if (unregister(client)) {
             try {
-                entry.getValue().send(SseEmitter.event()
-                        .name(eventName)
-                        .data(objectMapper.writeValueAsString(data)));
-                return false;
-            } catch (IOException e) {
-                log.error("Error sending message to client: {}", entry.getKey(), e);
-                return true; // Remove client on error
+                client.complete();
+            } catch (IllegalStateException e) {
+                log.debug("SSE client {} already completed", client.getClientId());
             }
-        });
+        }
     }
-}
\ No newline at end of file
+}
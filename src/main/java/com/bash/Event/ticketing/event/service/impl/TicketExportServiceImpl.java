@@ -0,0 +1,146 @@
+package com.bash.Event.ticketing.event.service.impl;
+
+import com.bash.Event.ticketing.Exceptions.EventNotFoundException;
+import com.bash.Event.ticketing.event.repository.EventRepository;
+import com.bash.Event.ticketing.event.service.EventOwnershipService;
+import com.bash.Event.ticketing.event.service.TicketExportService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
+@Service
+@Slf4j
+public class TicketExportServiceImpl implements TicketExportService {
+
+    static final String CSV_HEADER = "ticket_id,ticket_type,price,quantity_available,quantity_sold,"
+            + "attendance_status,purchased_by,purchased_at,scanned_at";
+
+    // Scalar projection: rows never enter the persistence context, so memory stays flat
+    private static final String EXPORT_QUERY = """
+            SELECT t.id, t.ticketType, t.price, t.quantityAvailable, t.quantitySold,
+                   t.attendanceStatus, t.purchasedBy, t.purchasedAt, t.scannedAt
+            FROM Ticket t
+            WHERE t.event.id = :eventId""";
+
+    private static final int WRITE_BUFFER_SIZE = 16 * 1024;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final EventRepository eventRepository;
+    private final EventOwnershipService eventOwnershipService;
+    private final TransactionTemplate transactionTemplate;
+    private final int fetchSize;
+    private final Duration exportTimeout;
+
+    @Autowired
+    public TicketExportServiceImpl(EventRepository eventRepository,
+                                   EventOwnershipService eventOwnershipService,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${app.export.fetch-size:500}") int fetchSize,
+                                   @Value("${app.export.request-timeout:15m}") Duration exportTimeout) {
+        this.eventRepository = eventRepository;
+        this.eventOwnershipService = eventOwnershipService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.fetchSize = fetchSize;
+        this.exportTimeout = exportTimeout;
+    }
+
+    TicketExportServiceImpl(EventRepository eventRepository, EventOwnershipService eventOwnershipService,
+                            PlatformTransactionManager transactionManager, int fetchSize) {
+        this(eventRepository, eventOwnershipService, transactionManager, fetchSize, Duration.ofMinutes(15));
+    }
+
+    @Override
+    public StreamingResponseBody exportEventCsv(UUID eventId) {
+        // Checks run on the request thread; the body is written later on an async thread
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String userEmail = authentication.getName();
+
+        if (!eventRepository.existsById(eventId)) {
+            throw new EventNotFoundException("Event not found with ID: " + eventId);
+        }
+        eventOwnershipService.validateEventOwnership(eventId, userEmail);
+
+        log.info("Starting CSV export of event {} for user {}", eventId, userEmail);
+        return outputStream -> {
+            Writer writer = new BufferedWriter(
+                    new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+            long rows = transactionTemplate.execute(status -> streamRows(eventId, writer));
+            writer.flush();
+            log.info("CSV export of event {} finished: {} rows", eventId, rows);
+        };
+    }
+
+    @Override
+    public Duration getExportTimeout() {
+        return exportTimeout;
+    }
+
+    private long streamRows(UUID eventId, Writer writer) {
+        Session session = entityManager.unwrap(Session.class);
+        try (ScrollableResults<Object[]> results = session.createSelectionQuery(EXPORT_QUERY, Object[].class)
+                .setParameter("eventId", eventId)
+                .setFetchSize(fetchSize)
+                .setReadOnly(true)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+            long count = 0;
+            while (results.next()) {
+                writeRow(writer, results.get());
+                count++;
+            }
+            return count;
+        } catch (IOException e) {
+            // Client went away mid-download; abort the cursor and let the container close the stream
+            throw new UncheckedIOException("Failed to write CSV export for event " + eventId, e);
+        }
+    }
+
+    static void writeRow(Writer writer, Object[] row) throws IOException {
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escape(row[i]));
+        }
+        writer.write('\n');
+    }
+
+    static String escape(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        // Neutralise spreadsheet formulas in user supplied values
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0 && !(value instanceof Number)) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
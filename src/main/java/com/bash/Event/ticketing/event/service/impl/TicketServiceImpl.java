@@ -1,5 +1,11 @@
 package com.bash.Event.ticketing.event.service.impl;
 
+import com.bash.Event.ticketing.Exceptions.TicketNotFoundException;
+import com.bash.Event.ticketing.cache.CacheNames;
+import com.bash.Event.ticketing.cache.MissingIdCache;
+import com.bash.Event.ticketing.event.domain.TicketCreated;
+import com.bash.Event.ticketing.event.domain.TicketPurchased;
+import com.bash.Event.ticketing.event.domain.TicketScanned;
 import com.bash.Event.ticketing.event.dto.request.PurchaseRequest;
 import com.bash.Event.ticketing.event.dto.request.TicketRequest;
 import com.bash.Event.ticketing.event.dto.response.DashboardInsights;
@@ -11,12 +17,11 @@ import com.bash.Event.ticketing.event.model.Ticket;
 import com.bash.Event.ticketing.event.repository.EventRepository;
 import com.bash.Event.ticketing.event.repository.TicketRepository;
 import com.bash.Event.ticketing.event.service.EventOwnershipService;
-import com.bash.Event.ticketing.event.service.SseService;
 import com.bash.Event.ticketing.event.service.TicketService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -33,12 +38,12 @@ public class TicketServiceImpl implements TicketService {
 
     private final TicketRepository ticketRepository;
     private final EventRepository eventRepository;
-    private final SseService sseService;
     private final EventOwnershipService eventOwnershipService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MissingIdCache missingIdCache;
 
     @Override
     @Transactional
-    @CacheEvict(value = {"tickets", "dashboard"}, allEntries = true)
     public MessageResponse<TicketResponse> createTicket(UUID eventId, TicketRequest request) {
         // Get current authenticated user
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -62,14 +67,14 @@ public class TicketServiceImpl implements TicketService {
         
         log.info("Ticket created successfully by user {}: {}", userEmail, response);
         
-        // Send SSE notification
-        sseService.sendTicketUpdate(saved.getId(), "CREATED", response);
+        // Notifications go out after commit
+        eventPublisher.publishEvent(new TicketCreated(saved.getId(), eventId, event.getCreatedBy(), response));
         
         return MessageResponse.success("Ticket created successfully", response);
     }
 
     @Override
-    @Cacheable(value = "tickets", key = "#eventId")
+    @Cacheable(value = CacheNames.TICKETS, key = "#eventId", sync = true)
     public MessageResponse<List<TicketResponse>> getEventTickets(UUID eventId) {
         List<Ticket> tickets = ticketRepository.findByEventId(eventId);
         List<TicketResponse> responses = tickets.stream()
@@ -80,10 +85,8 @@ public class TicketServiceImpl implements TicketService {
 
     @Override
     @Transactional
-    @CacheEvict(value = {"tickets", "dashboard"}, allEntries = true)
     public MessageResponse<TicketResponse> purchaseTicket(UUID eventId, UUID ticketId, PurchaseRequest request) {
-        Ticket ticket = ticketRepository.findById(ticketId)
-                .orElseThrow(() -> new RuntimeException("Ticket not found"));
+        Ticket ticket = findTicket(ticketId);
 
         if (!ticket.getEvent().getId().equals(eventId)) {
             throw new RuntimeException("Ticket does not belong to this event");
@@ -100,24 +103,22 @@ public class TicketServiceImpl implements TicketService {
 
         Ticket saved = ticketRepository.save(ticket);
         TicketResponse response = mapToResponse(saved);
-        
-        // Send SSE notifications
-        sseService.sendTicketUpdate(ticketId, "PURCHASED", response);
-        sseService.sendDashboardUpdate(getDashboardInsights().getData());
+
+        // Notifications, trending and the dashboard refresh happen after commit
+        eventPublisher.publishEvent(new TicketPurchased(ticketId, eventId, ticket.getEvent().getCreatedBy(),
+                request.getQuantity(), response));
         
         return MessageResponse.success("Ticket purchased successfully", response);
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = {"tickets", "dashboard"}, allEntries = true)
     public MessageResponse<TicketResponse> scanTicket(UUID ticketId) {
         // Get current authenticated user
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String userEmail = authentication.getName();
         
-        Ticket ticket = ticketRepository.findById(ticketId)
-                .orElseThrow(() -> new RuntimeException("Ticket not found"));
+        Ticket ticket = findTicket(ticketId);
 
         // Validate that user owns the event
         eventOwnershipService.validateEventOwnership(ticket.getEvent().getId(), userEmail);
@@ -130,15 +131,14 @@ public class TicketServiceImpl implements TicketService {
         
         log.info("Ticket scanned successfully by user {}: {}", userEmail, response);
         
-        // Send SSE notifications
-        sseService.sendTicketUpdate(ticketId, "SCANNED", response);
-        sseService.sendDashboardUpdate(getDashboardInsights().getData());
+        // Notifications and the dashboard refresh happen after commit
+        eventPublisher.publishEvent(new TicketScanned(ticketId, response.getEventId(), ticket.getEvent().getCreatedBy(), response));
         
         return MessageResponse.success("Ticket scanned successfully", response);
     }
 
     @Override
-    @Cacheable(value = "dashboard", key = "'insights'")
+    @Cacheable(value = CacheNames.DASHBOARD, key = "'" + CacheNames.DASHBOARD_INSIGHTS_KEY + "'", sync = true)
     public MessageResponse<DashboardInsights> getDashboardInsights() {
         Long totalTicketsSold = ticketRepository.getTotalTicketsSold();
         Long activeAttendances = ticketRepository.getActiveAttendances();
@@ -177,6 +177,14 @@ public class TicketServiceImpl implements TicketService {
         return MessageResponse.success("User dashboard insights retrieved", insights);
     }
 
+    // Known-missing ids are turned away by the controller before a transaction is opened
+    private Ticket findTicket(UUID ticketId) {
+        return ticketRepository.findById(ticketId).orElseThrow(() -> {
+            missingIdCache.recordMissing(MissingIdCache.ticketKey(ticketId));
+            return new TicketNotFoundException("Ticket not found with ID: " + ticketId);
+        });
+    }
+
     private TicketResponse mapToResponse(Ticket ticket) {
         TicketResponse response = new TicketResponse();
         response.setId(ticket.getId());
@@ -0,0 +1,147 @@
+package com.bash.Event.ticketing.event.service.impl;
+
+import com.bash.Event.ticketing.event.dto.response.TrendingEventResponse;
+import com.bash.Event.ticketing.event.service.TrendingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+// Space-Saving sketch over forward-decayed scores: bounded to `capacity` counters, and new weights
+// are scaled up relative to a landmark so existing counters never need to be decayed in place.
+@Service
+@Slf4j
+public class TrendingServiceImpl implements TrendingService {
+
+    private static final double MAX_EXPONENT = 50.0;
+
+    private static final Comparator<Counter> BY_SCORE = Comparator
+            .comparingDouble((Counter counter) -> counter.score)
+            .thenComparing(counter -> counter.eventId);
+
+    private final int capacity;
+    private final double decayRate;
+    private final double viewWeight;
+    private final double purchaseWeight;
+    private final LongSupplier clock;
+
+    private final Map<UUID, Counter> counters = new HashMap<>();
+    private final TreeSet<Counter> ranking = new TreeSet<>(BY_SCORE);
+    private long landmark;
+
+    @Autowired
+    public TrendingServiceImpl(@Value("${app.trending.capacity:1000}") int capacity,
+                               @Value("${app.trending.half-life:PT1H}") Duration halfLife,
+                               @Value("${app.trending.view-weight:1.0}") double viewWeight,
+                               @Value("${app.trending.purchase-weight:5.0}") double purchaseWeight) {
+        this(capacity, halfLife, viewWeight, purchaseWeight, System::currentTimeMillis);
+    }
+
+    TrendingServiceImpl(int capacity, Duration halfLife, double viewWeight, double purchaseWeight, LongSupplier clock) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Trending capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.decayRate = Math.log(2) / Math.max(1, halfLife.toMillis());
+        this.viewWeight = viewWeight;
+        this.purchaseWeight = purchaseWeight;
+        this.clock = clock;
+        this.landmark = clock.getAsLong();
+    }
+
+    @Override
+    public void recordView(UUID eventId) {
+        record(eventId, viewWeight);
+    }
+
+    @Override
+    public void recordPurchase(UUID eventId, int quantity) {
+        if (quantity > 0) {
+            record(eventId, purchaseWeight * quantity);
+        }
+    }
+
+    @Override
+    public synchronized void removeEvent(UUID eventId) {
+        Counter counter = counters.remove(eventId);
+        if (counter != null) {
+            ranking.remove(counter);
+        }
+    }
+
+    @Override
+    public synchronized List<TrendingEventResponse> getTopEvents(int limit) {
+        double decay = Math.exp(-decayRate * (clock.getAsLong() - landmark));
+        List<TrendingEventResponse> top = new ArrayList<>(Math.min(limit, ranking.size()));
+        Iterator<Counter> iterator = ranking.descendingIterator();
+        while (iterator.hasNext() && top.size() < limit) {
+            Counter counter = iterator.next();
+            top.add(TrendingEventResponse.builder()
+                    .eventId(counter.eventId)
+                    .score(counter.score * decay)
+                    .build());
+        }
+        return top;
+    }
+
+    private synchronized void record(UUID eventId, double weight) {
+        if (eventId == null || weight <= 0) {
+            return;
+        }
+        long now = clock.getAsLong();
+        if (decayRate * (now - landmark) > MAX_EXPONENT) {
+            rescale(now);
+        }
+        double scaled = weight * Math.exp(decayRate * (now - landmark));
+
+        Counter counter = counters.get(eventId);
+        if (counter != null) {
+            ranking.remove(counter);
+            counter.score += scaled;
+            ranking.add(counter);
+            return;
+        }
+
+        double inherited = 0;
+        if (counters.size() >= capacity) {
+            Counter evicted = ranking.pollFirst();
+            counters.remove(evicted.eventId);
+            inherited = evicted.score;
+        }
+        counter = new Counter(eventId, inherited + scaled);
+        counters.put(eventId, counter);
+        ranking.add(counter);
+    }
+
+    private void rescale(long now) {
+        double factor = Math.exp(-decayRate * (now - landmark));
+        ranking.clear();
+        for (Counter counter : counters.values()) {
+            counter.score *= factor;
+            ranking.add(counter);
+        }
+        landmark = now;
+        log.debug("Rescaled {} trending counters", counters.size());
+    }
+
+    private static final class Counter {
+        private final UUID eventId;
+        private double score;
+
+        private Counter(UUID eventId, double score) {
+            this.eventId = eventId;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.bash.Event.ticketing.event.sse;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+
+// Raw deflaters shared by compressed SSE streams. Each holds a few hundred KB of native memory
+// while in use, so at most maxActive connections compress at once and idle ones are reused.
+public class DeflaterPool {
+
+    private final int level;
+    private final int maxActive;
+    private final int maxIdle;
+    private final ConcurrentLinkedQueue<Deflater> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    public DeflaterPool(int level, int maxActive, int maxIdle) {
+        this.level = level;
+        this.maxActive = maxActive;
+        this.maxIdle = maxIdle;
+    }
+
+    // Null when the limit is reached; the caller then streams uncompressed
+    public Deflater acquire() {
+        if (active.incrementAndGet() > maxActive) {
+            active.decrementAndGet();
+            return null;
+        }
+        Deflater deflater = idle.poll();
+        if (deflater == null) {
+            return new Deflater(level, true);
+        }
+        idleCount.decrementAndGet();
+        return deflater;
+    }
+
+    public void release(Deflater deflater) {
+        active.decrementAndGet();
+        if (idleCount.incrementAndGet() <= maxIdle) {
+            deflater.reset();
+            idle.offer(deflater);
+        } else {
+            idleCount.decrementAndGet();
+            deflater.end();
+        }
+    }
+
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    public int getIdleCount() {
+        return idleCount.get();
+    }
+}
@@ -0,0 +1,32 @@
+package com.bash.Event.ticketing.event.sse;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+// Spring MVC transport: frames go through SseEmitter and its async request handling.
+public class EmitterSseSink implements SseSink {
+
+    private final SseEmitter emitter;
+
+    public EmitterSseSink(SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    @Override
+    public void send(SseFrame frame) throws IOException {
+        emitter.send(frame.getEmitterData());
+    }
+
+    @Override
+    public void complete() {
+        emitter.complete();
+    }
+
+    @Override
+    public void onClose(Runnable callback) {
+        emitter.onCompletion(callback);
+        emitter.onTimeout(callback);
+        emitter.onError(ex -> callback.run());
+    }
+}
@@ -0,0 +1,26 @@
+package com.bash.Event.ticketing.event.sse;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// Single-node bus: delivers straight to the local listeners. Also the stand-in for tests.
+@Component
+@ConditionalOnProperty(name = "app.sse.bus", havingValue = "in-process", matchIfMissing = true)
+public class InProcessSseBroadcastBus implements SseBroadcastBus {
+
+    private final List<Consumer<SseBroadcast>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(SseBroadcast broadcast) {
+        listeners.forEach(listener -> listener.accept(broadcast));
+    }
+
+    @Override
+    public void addListener(Consumer<SseBroadcast> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,53 @@
+package com.bash.Event.ticketing.event.sse;
+
+import com.bash.Event.ticketing.config.SseProperties;
+import com.bash.Event.ticketing.notify.PostgresNotifyBus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Set;
+
+// Multi-node SSE bus over PostgreSQL LISTEN/NOTIFY; each node delivers every broadcast to its own clients.
+@Component
+@ConditionalOnProperty(name = "app.sse.bus", havingValue = "postgres")
+@Slf4j
+public class PostgresSseBroadcastBus extends PostgresNotifyBus<SseBroadcast> implements SseBroadcastBus {
+
+    @Autowired
+    public PostgresSseBroadcastBus(DataSource dataSource, DataSourceProperties dataSourceProperties,
+                                   ObjectMapper objectMapper, SseProperties sseProperties) {
+        this(dataSource, listenDataSource(dataSourceProperties), objectMapper, sseProperties);
+    }
+
+    PostgresSseBroadcastBus(DataSource dataSource, DataSource listenDataSource, ObjectMapper objectMapper,
+                            SseProperties sseProperties) {
+        super("SseBusListener", dataSource, listenDataSource, objectMapper, sseProperties.getNotifyChannel(),
+                SseBroadcast.class);
+    }
+
+    // Oversized messages travel as a resync for their topics rather than being dropped silently
+    @Override
+    protected SseBroadcast oversized(SseBroadcast broadcast) {
+        log.warn("SSE {} broadcast exceeds the NOTIFY payload limit, sending resync", broadcast.eventName());
+        return SseBroadcast.resync(broadcast.topics());
+    }
+
+    // Broadcasts sent while we were disconnected are gone, so every client is asked to resync
+    @Override
+    protected SseBroadcast reconnected() {
+        return SseBroadcast.resync(Set.of(SseTopics.ALL));
+    }
+
+    // Other nodes miss this one, but local clients should still get it
+    @Override
+    protected void publishFailed(SseBroadcast broadcast, SQLException e) {
+        log.error("Failed to publish SSE broadcast on channel {}, delivering locally only", getChannel(), e);
+        deliver(broadcast);
+    }
+}
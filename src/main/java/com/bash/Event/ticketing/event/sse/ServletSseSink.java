@@ -0,0 +1,143 @@
+package com.bash.Event.ticketing.event.sse;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+
+// Lightweight transport: a bare servlet async context whose output stream receives the pre-encoded
+// frame bytes directly. No emitter, DeferredResult or message converters are kept per connection,
+// which matters when most of a very large number of connections sit idle.
+public class ServletSseSink implements SseSink {
+
+    private final AsyncContext asyncContext;
+    private final ServletOutputStream out;
+    // Null when the stream is not compressed
+    private final SseGzipEncoder gzip;
+
+    private ServletSseSink(AsyncContext asyncContext, ServletOutputStream out, SseGzipEncoder gzip) {
+        this.asyncContext = asyncContext;
+        this.out = out;
+        this.gzip = gzip;
+        if (gzip != null) {
+            onClose(gzip::close);
+        }
+    }
+
+    public static ServletSseSink start(HttpServletRequest request, HttpServletResponse response) {
+        return start(request, response, null);
+    }
+
+    // Compresses the stream when a deflater pool is given, the client accepts gzip and a deflater is free
+    public static ServletSseSink start(HttpServletRequest request, HttpServletResponse response, DeflaterPool deflaterPool) {
+        response.setContentType("text/event-stream");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader("Cache-Control", "no-cache");
+        // Stops reverse proxies from buffering the stream
+        response.setHeader("X-Accel-Buffering", "no");
+        if (deflaterPool != null) {
+            response.setHeader("Vary", "Accept-Encoding");
+        }
+        AsyncContext asyncContext = request.startAsync(request, response);
+        // Liveness is handled by heartbeats and the idle reaper, not by the container timeout
+        asyncContext.setTimeout(0);
+        // Taken only once the async context exists, and handed back on any failure from here on
+        SseGzipEncoder gzip = null;
+        try {
+            Deflater deflater = deflaterPool != null && acceptsGzip(request) ? deflaterPool.acquire() : null;
+            if (deflater != null) {
+                gzip = new SseGzipEncoder(deflaterPool, deflater);
+                response.setHeader("Content-Encoding", "gzip");
+            }
+            ServletOutputStream out = response.getOutputStream();
+            if (gzip != null) {
+                out.write(SseGzipEncoder.header());
+            }
+            response.flushBuffer();
+            return new ServletSseSink(asyncContext, out, gzip);
+        } catch (IOException e) {
+            abandon(asyncContext, gzip);
+            throw new IllegalStateException("Could not open SSE stream", e);
+        } catch (RuntimeException e) {
+            abandon(asyncContext, gzip);
+            throw e;
+        }
+    }
+
+    public static boolean acceptsGzip(HttpServletRequest request) {
+        String header = request.getHeader("Accept-Encoding");
+        if (header == null) {
+            return false;
+        }
+        for (String coding : header.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static void abandon(AsyncContext asyncContext, SseGzipEncoder gzip) {
+        if (gzip != null) {
+            gzip.close();
+        }
+        asyncContext.complete();
+    }
+
+    // Blocking write; run it on virtual threads (app.sse.virtual-threads) so a slow client only
+    // parks a cheap thread. No lock is taken here, SseClient already serializes writers and
+    // never completes the stream while a send is running.
+    @Override
+    public void send(SseFrame frame) throws IOException {
+        out.write(gzip != null ? gzip.encode(frame.getBytes()) : frame.getBytes());
+        out.flush();
+    }
+
+    @Override
+    public void complete() {
+        try {
+            if (gzip != null) {
+                out.write(gzip.finish());
+            }
+        } catch (IOException | IllegalStateException e) {
+            // The client is gone; there is nothing left to terminate
+        }
+        try {
+            asyncContext.complete();
+        } catch (IllegalStateException e) {
+            // Already completed by the container
+        }
+    }
+
+    @Override
+    public void onClose(Runnable callback) {
+        asyncContext.addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                callback.run();
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                callback.run();
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                callback.run();
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+                // Not restarted
+            }
+        });
+    }
+}
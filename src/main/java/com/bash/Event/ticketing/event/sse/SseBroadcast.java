@@ -0,0 +1,24 @@
+package com.bash.Event.ticketing.event.sse;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.Set;
+
+// A serialized SSE message as it travels between nodes. A null json payload means the message
+// could not be carried and subscribers of the topics should resync instead. Messages with the same
+// collapseKey supersede each other when updates are batched.
+public record SseBroadcast(String eventName, Set<String> topics, String json, String collapseKey) {
+
+    public SseBroadcast(String eventName, Set<String> topics, String json) {
+        this(eventName, topics, json, null);
+    }
+
+    public static SseBroadcast resync(Set<String> topics) {
+        return new SseBroadcast(null, topics, null);
+    }
+
+    @JsonIgnore
+    public boolean isResync() {
+        return json == null;
+    }
+}
@@ -0,0 +1,12 @@
+package com.bash.Event.ticketing.event.sse;
+
+import java.util.function.Consumer;
+
+// Carries broadcasts to every application node. Each node publishes once and delivers to its own
+// clients from the listener, including messages it published itself.
+public interface SseBroadcastBus {
+
+    void publish(SseBroadcast broadcast);
+
+    void addListener(Consumer<SseBroadcast> listener);
+}
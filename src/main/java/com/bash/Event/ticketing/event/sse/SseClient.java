@@ -0,0 +1,179 @@
+package com.bash.Event.ticketing.event.sse;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+// One connected subscriber: a bounded outbound queue drained by at most one sender thread at a time.
+public class SseClient {
+
+    // Entities tracked per delta-mode client before it falls back to fresh snapshots
+    private static final int MAX_TRACKED_ENTITIES = 4096;
+
+    public enum OfferResult {
+        QUEUED,
+        RESYNC,
+        OVERFLOWED
+    }
+
+    private final String clientId;
+    private final SseSink sink;
+    private final Set<String> topics;
+    private final SseMode mode;
+    private final String remoteAddress;
+    private final BlockingQueue<SseFrame> queue;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final LongSupplier clock;
+    private volatile boolean resyncPending;
+    private volatile boolean completing;
+    private volatile long lastWriteAt;
+    // Delta mode: entity -> version of the last snapshot or delta queued for it
+    private final Map<String, Long> seenVersions = new ConcurrentHashMap<>();
+
+    public SseClient(String clientId, SseSink sink, Set<String> topics, SseMode mode, int queueCapacity,
+                     String remoteAddress, LongSupplier clock) {
+        this.clientId = clientId;
+        this.sink = sink;
+        this.topics = topics;
+        this.mode = mode;
+        this.remoteAddress = remoteAddress;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.clock = clock;
+        this.lastWriteAt = clock.getAsLong();
+    }
+
+    public String getClientId() {
+        return clientId;
+    }
+
+    public SseSink getSink() {
+        return sink;
+    }
+
+    public Set<String> getTopics() {
+        return topics;
+    }
+
+    public SseMode getMode() {
+        return mode;
+    }
+
+    public String getRemoteAddress() {
+        return remoteAddress;
+    }
+
+    public int getQueuedFrames() {
+        return queue.size();
+    }
+
+    // Time of the last frame that was written without error
+    public long getLastWriteAt() {
+        return lastWriteAt;
+    }
+
+    public OfferResult offer(SseFrame frame) {
+        if (queue.offer(mode == SseMode.DELTA ? selectVariant(frame) : frame)) {
+            return OfferResult.QUEUED;
+        }
+        return degrade();
+    }
+
+    // A delta only applies on top of the exact version this client last received; anything else
+    // (first sight of the entity, a gap, a resync) gets the full snapshot
+    private SseFrame selectVariant(SseFrame frame) {
+        if (SseFrame.RESYNC.getEventName().equals(frame.getEventName())) {
+            seenVersions.clear();
+            return frame;
+        }
+        if (frame.getEntityKey() == null || frame.getSnapshot() == null) {
+            return frame;
+        }
+        if (seenVersions.size() >= MAX_TRACKED_ENTITIES && !seenVersions.containsKey(frame.getEntityKey())) {
+            seenVersions.clear();
+        }
+        Long seen = seenVersions.put(frame.getEntityKey(), frame.getId());
+        if (frame.getDelta() != null && seen != null && seen == frame.getBaseVersion()) {
+            return frame.getDelta();
+        }
+        return frame.getSnapshot();
+    }
+
+    // Heartbeats are only needed on a quiet connection; pending frames already prove liveness
+    public boolean offerHeartbeat() {
+        return queue.isEmpty() && queue.offer(SseFrame.HEARTBEAT);
+    }
+
+    // Queue is full: drop the backlog and tell the client to refetch. If it still has not
+    // caught up with the previous resync marker, it is too slow to keep.
+    private synchronized OfferResult degrade() {
+        if (resyncPending) {
+            return OfferResult.OVERFLOWED;
+        }
+        queue.clear();
+        // Whatever the dropped frames carried is gone; the next update of each entity must be a snapshot
+        seenVersions.clear();
+        if (!queue.offer(SseFrame.RESYNC)) {
+            return OfferResult.OVERFLOWED;
+        }
+        resyncPending = true;
+        return OfferResult.RESYNC;
+    }
+
+    public boolean tryStartDrain() {
+        return draining.compareAndSet(false, true);
+    }
+
+    // Sends queued frames until the queue is empty. Returns false if the connection failed.
+    public boolean drain() {
+        while (true) {
+            SseFrame frame;
+            while (!completing && (frame = queue.poll()) != null) {
+                if (frame == SseFrame.RESYNC) {
+                    resyncPending = false;
+                }
+                try {
+                    sink.send(frame);
+                    lastWriteAt = clock.getAsLong();
+                } catch (IOException | IllegalStateException e) {
+                    queue.clear();
+                    releaseWriter();
+                    return false;
+                }
+            }
+            releaseWriter();
+            // A frame may have been queued after the last poll but before the flag was cleared
+            if (completing || queue.isEmpty() || !draining.compareAndSet(false, true)) {
+                return true;
+            }
+        }
+    }
+
+    // The sink is only ever touched by the thread holding the drain flag, ending it included: if a
+    // send is in progress, the sender closes the stream once that write returns
+    public void complete() {
+        completing = true;
+        queue.clear();
+        if (draining.compareAndSet(false, true)) {
+            sink.complete();
+        }
+    }
+
+    // For a drain that was started but will never run, such as one the sender pool rejected
+    public void cancelDrain() {
+        releaseWriter();
+    }
+
+    // Hands the drain flag back, carrying out a complete() that arrived while it was held. A
+    // completed client keeps the flag, so nothing is written after the end of the stream.
+    private void releaseWriter() {
+        draining.set(false);
+        if (completing && draining.compareAndSet(false, true)) {
+            sink.complete();
+        }
+    }
+}
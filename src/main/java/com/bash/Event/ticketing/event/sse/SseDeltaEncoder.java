@@ -0,0 +1,120 @@
+package com.bash.Event.ticketing.event.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Iterator;
+import java.util.Map;
+
+// Keeps the last delivered state of each ticket and event and renders, next to the full frame,
+// a versioned snapshot frame and a field-level delta frame. Each variant is serialized once per
+// broadcast; clients in delta mode pick one. The version of an entity is the id of the frame that
+// last changed it, so versions stay monotonic even when a snapshot is evicted and rebuilt.
+public class SseDeltaEncoder {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private record Snapshot(long version, ObjectNode data) {
+    }
+
+    private final Cache<String, Snapshot> snapshots;
+
+    public SseDeltaEncoder(int maxEntities) {
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxEntities)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    // Must be called in delivery order; the caller holds the publish lock
+    public SseFrame encode(long id, String eventName, String json) {
+        SseFrame full = SseFrame.event(id, eventName, json);
+        String kind = entityKind(eventName);
+        if (kind == null) {
+            return full;
+        }
+        JsonNode message;
+        try {
+            message = MAPPER.readTree(json);
+        } catch (JsonProcessingException e) {
+            return full;
+        }
+        JsonNode entityId = message == null ? null : message.get(kind + "Id");
+        if (entityId == null || !entityId.isTextual()) {
+            return full;
+        }
+        String entityKey = kind + ":" + entityId.asText();
+        JsonNode data = message.get("data");
+        if (data == null || !data.isObject()) {
+            // Deletions and payload-less updates go out in full to everyone
+            snapshots.invalidate(entityKey);
+            return full;
+        }
+
+        Snapshot previous = snapshots.getIfPresent(entityKey);
+        snapshots.put(entityKey, new Snapshot(id, (ObjectNode) data));
+
+        ObjectNode snapshot = header(kind + "_snapshot", entityId, id);
+        snapshot.set("data", data);
+        SseFrame snapshotFrame = SseFrame.event(id, kind + "_snapshot", write(snapshot));
+        if (previous == null) {
+            return full.withVariants(entityKey, 0, snapshotFrame, null);
+        }
+        ObjectNode delta = header(kind + "_delta", entityId, id);
+        appendChanges(previous.data(), (ObjectNode) data, delta);
+        SseFrame deltaFrame = SseFrame.event(id, kind + "_delta", write(delta));
+        return full.withVariants(entityKey, previous.version(), snapshotFrame, deltaFrame);
+    }
+
+    // Forgets every entity while updates go out unencoded, so the next update of each starts from a
+    // snapshot rather than a delta against a state some updates behind
+    public void reset() {
+        snapshots.invalidateAll();
+    }
+
+    private static String entityKind(String eventName) {
+        return switch (eventName) {
+            case "ticket_update" -> "ticket";
+            case "event_update" -> "event";
+            default -> null;
+        };
+    }
+
+    private static ObjectNode header(String type, JsonNode entityId, long version) {
+        ObjectNode node = MAPPER.createObjectNode();
+        node.put("type", type);
+        node.set("id", entityId);
+        node.put("v", version);
+        return node;
+    }
+
+    // Changed and added fields carry their new value; removed fields are sent as null
+    private static void appendChanges(ObjectNode before, ObjectNode after, ObjectNode into) {
+        Iterator<Map.Entry<String, JsonNode>> fields = after.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (!field.getValue().equals(before.get(field.getKey()))) {
+                into.set(field.getKey(), field.getValue());
+            }
+        }
+        Iterator<String> names = before.fieldNames();
+        while (names.hasNext()) {
+            String name = names.next();
+            if (!after.has(name)) {
+                into.putNull(name);
+            }
+        }
+    }
+
+    private static String write(JsonNode node) {
+        try {
+            return MAPPER.writeValueAsString(node);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not write SSE delta", e);
+        }
+    }
+}
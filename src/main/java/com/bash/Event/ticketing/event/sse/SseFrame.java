@@ -0,0 +1,125 @@
+package com.bash.Event.ticketing.event.sse;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+// A fully rendered SSE frame (id + event + data lines + terminating blank line), encoded once
+// and written as-is to every subscriber.
+public final class SseFrame {
+
+    private static final String RESYNC_DATA = "{\"type\":\"resync\"}";
+
+    public static final SseFrame RESYNC = event("resync", RESYNC_DATA);
+    public static final SseFrame HEARTBEAT = comment("heartbeat");
+
+    private final long id;
+    private final String eventName;
+    private final byte[] bytes;
+    private final Set<ResponseBodyEmitter.DataWithMediaType> emitterData;
+
+    // Delta-mode variants of a ticket/event update, rendered by SseDeltaEncoder
+    private final String entityKey;
+    private final long baseVersion;
+    private final SseFrame snapshot;
+    private final SseFrame delta;
+
+    private SseFrame(long id, String eventName, String text) {
+        this.id = id;
+        this.eventName = eventName;
+        this.bytes = text.getBytes(StandardCharsets.UTF_8);
+        this.emitterData = Set.of(new ResponseBodyEmitter.DataWithMediaType(bytes, MediaType.TEXT_PLAIN));
+        this.entityKey = null;
+        this.baseVersion = 0;
+        this.snapshot = null;
+        this.delta = null;
+    }
+
+    private SseFrame(SseFrame full, String entityKey, long baseVersion, SseFrame snapshot, SseFrame delta) {
+        this.id = full.id;
+        this.eventName = full.eventName;
+        this.bytes = full.bytes;
+        this.emitterData = full.emitterData;
+        this.entityKey = entityKey;
+        this.baseVersion = baseVersion;
+        this.snapshot = snapshot;
+        this.delta = delta;
+    }
+
+    public static SseFrame event(String eventName, String data) {
+        return event(0, eventName, data);
+    }
+
+    // Frames with a positive id can be resumed from with Last-Event-ID
+    public static SseFrame event(long id, String eventName, String data) {
+        StringBuilder sb = new StringBuilder(eventName.length() + (data != null ? data.length() : 0) + 40);
+        if (id > 0) {
+            sb.append("id:").append(id).append('\n');
+        }
+        sb.append("event:").append(eventName).append('\n');
+        appendData(sb, data);
+        sb.append('\n');
+        return new SseFrame(id, eventName, sb.toString());
+    }
+
+    public static SseFrame resync(long id) {
+        return event(id, "resync", RESYNC_DATA);
+    }
+
+    // delta is null when there is no earlier state to diff against
+    public SseFrame withVariants(String entityKey, long baseVersion, SseFrame snapshot, SseFrame delta) {
+        return new SseFrame(this, entityKey, baseVersion, snapshot, delta);
+    }
+
+    public static SseFrame comment(String text) {
+        return new SseFrame(0, null, ":" + text + "\n\n");
+    }
+
+    private static void appendData(StringBuilder sb, String data) {
+        if (data == null) {
+            sb.append("data:\n");
+            return;
+        }
+        int start = 0;
+        int newline;
+        while ((newline = data.indexOf('\n', start)) >= 0) {
+            sb.append("data:").append(data, start, newline).append('\n');
+            start = newline + 1;
+        }
+        sb.append("data:").append(data, start, data.length()).append('\n');
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getEventName() {
+        return eventName;
+    }
+
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    public Set<ResponseBodyEmitter.DataWithMediaType> getEmitterData() {
+        return emitterData;
+    }
+
+    public String getEntityKey() {
+        return entityKey;
+    }
+
+    public long getBaseVersion() {
+        return baseVersion;
+    }
+
+    public SseFrame getSnapshot() {
+        return snapshot;
+    }
+
+    public SseFrame getDelta() {
+        return delta;
+    }
+}
@@ -0,0 +1,103 @@
+package com.bash.Event.ticketing.event.sse;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+// One gzip member spanning a whole SSE connection. Every frame is sync-flushed so the client can
+// decode it immediately, while the deflate window keeps earlier frames as dictionary and repeated
+// keys and ids shrink to back-references.
+public class SseGzipEncoder {
+
+    // Magic, deflate, no flags, no mtime, no extra flags, unknown OS
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, 8, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    private final DeflaterPool pool;
+    private final CRC32 crc = new CRC32();
+    // Guards the deflater against a close racing a send; a lock rather than synchronized so a
+    // virtual-thread sender blocked here does not pin its carrier
+    private final ReentrantLock lock = new ReentrantLock();
+    private Deflater deflater;
+    private long inputLength;
+
+    public SseGzipEncoder(DeflaterPool pool, Deflater deflater) {
+        this.pool = pool;
+        this.deflater = deflater;
+    }
+
+    public static byte[] header() {
+        return HEADER.clone();
+    }
+
+    public byte[] encode(byte[] frame) {
+        lock.lock();
+        try {
+            if (deflater == null) {
+                throw new IllegalStateException("Gzip stream already closed");
+            }
+            crc.update(frame);
+            inputLength += frame.length;
+            deflater.setInput(frame);
+            return drain(frame.length, false);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Ends the gzip member and returns the deflater to the pool; empty if already closed
+    public byte[] finish() {
+        lock.lock();
+        try {
+            if (deflater == null) {
+                return new byte[0];
+            }
+            deflater.finish();
+            byte[] tail = drain(0, true);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(tail.length + 8);
+            out.writeBytes(tail);
+            writeIntLE(out, crc.getValue());
+            writeIntLE(out, inputLength);
+            release();
+            return out.toByteArray();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Returns the deflater without ending the stream, for connections that are already gone
+    public void close() {
+        lock.lock();
+        try {
+            if (deflater != null) {
+                release();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release() {
+        pool.release(deflater);
+        deflater = null;
+    }
+
+    private byte[] drain(int sizeHint, boolean finishing) {
+        // Sync-flushed output rarely exceeds the input plus a few bytes of block overhead
+        byte[] buffer = new byte[sizeHint + 64];
+        ByteArrayOutputStream out = new ByteArrayOutputStream(buffer.length);
+        int written;
+        do {
+            written = deflater.deflate(buffer, 0, buffer.length, finishing ? Deflater.NO_FLUSH : Deflater.SYNC_FLUSH);
+            out.write(buffer, 0, written);
+        } while (finishing ? !deflater.finished() : written == buffer.length);
+        return out.toByteArray();
+    }
+
+    private static void writeIntLE(ByteArrayOutputStream out, long value) {
+        out.write((int) value & 0xff);
+        out.write((int) (value >> 8) & 0xff);
+        out.write((int) (value >> 16) & 0xff);
+        out.write((int) (value >> 24) & 0xff);
+    }
+}
@@ -0,0 +1,23 @@
+package com.bash.Event.ticketing.event.sse;
+
+import com.bash.Event.ticketing.Exceptions.InvalidSubscriptionException;
+
+import java.util.Locale;
+
+// FULL clients get every ticket/event update as a complete object. DELTA clients get a versioned
+// snapshot the first time they see an entity (and after a resync), then only the changed fields.
+public enum SseMode {
+    FULL,
+    DELTA;
+
+    public static SseMode parse(String mode) {
+        if (mode == null || mode.isBlank()) {
+            return FULL;
+        }
+        try {
+            return valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSubscriptionException("Unknown SSE mode: " + mode);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.bash.Event.ticketing.event.sse;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Bounded per-topic ring buffers of recently published frames, used to resume a client from Last-Event-ID.
+public class SseReplayBuffer {
+
+    public record Replay(List<SseFrame> frames, boolean gap) {
+    }
+
+    private final int bufferSize;
+    private final Cache<String, Ring> rings;
+    // Frames addressed to every topic, kept apart and merged into every replay, so a ring created
+    // after such a frame still resumes with it. Never evicted, as no topic ring carries these.
+    private final Ring broadcasts;
+    // Highest frame id held by a ring that was dropped to respect maxTopics
+    private final AtomicLong evictedHighWater = new AtomicLong();
+
+    public SseReplayBuffer(int bufferSize, int maxTopics) {
+        this.bufferSize = bufferSize;
+        this.broadcasts = new Ring(bufferSize);
+        this.rings = Caffeine.newBuilder()
+                .maximumSize(maxTopics)
+                .executor(Runnable::run)
+                .removalListener((String topic, Ring ring, RemovalCause cause) -> {
+                    if (ring != null && cause.wasEvicted()) {
+                        evictedHighWater.accumulateAndGet(ring.lastId(), Math::max);
+                    }
+                })
+                .build();
+    }
+
+    public void append(Set<String> topics, SseFrame frame) {
+        rings.get(SseTopics.ALL, topic -> new Ring(bufferSize)).add(frame);
+        if (topics.contains(SseTopics.ALL)) {
+            broadcasts.add(frame);
+            return;
+        }
+        for (String topic : topics) {
+            rings.get(topic, key -> new Ring(bufferSize)).add(frame);
+        }
+    }
+
+    public Replay since(Set<String> topics, long lastEventId) {
+        Map<Long, SseFrame> missed = new LinkedHashMap<>();
+        if (!broadcasts.collectSince(lastEventId, missed)) {
+            return new Replay(List.of(), true);
+        }
+        for (String topic : topics) {
+            Ring ring = rings.getIfPresent(topic);
+            if (ring == null) {
+                if (lastEventId < evictedHighWater.get()) {
+                    return new Replay(List.of(), true);
+                }
+                continue;
+            }
+            if (!ring.collectSince(lastEventId, missed)) {
+                return new Replay(List.of(), true);
+            }
+        }
+        List<SseFrame> frames = new ArrayList<>(missed.values());
+        frames.sort(Comparator.comparingLong(SseFrame::getId));
+        return new Replay(frames, false);
+    }
+
+    private static final class Ring {
+        private final SseFrame[] frames;
+        private int next;
+        private int size;
+        // Id of the newest frame overwritten in this ring
+        private long overwrittenUpTo;
+
+        private Ring(int capacity) {
+            this.frames = new SseFrame[capacity];
+        }
+
+        private synchronized void add(SseFrame frame) {
+            SseFrame overwritten = frames[next];
+            if (overwritten != null) {
+                overwrittenUpTo = overwritten.getId();
+            }
+            frames[next] = frame;
+            next = (next + 1) % frames.length;
+            size = Math.min(size + 1, frames.length);
+        }
+
+        private synchronized long lastId() {
+            return size == 0 ? 0 : frames[(next - 1 + frames.length) % frames.length].getId();
+        }
+
+        // Returns false when frames newer than lastEventId have already been overwritten
+        private synchronized boolean collectSince(long lastEventId, Map<Long, SseFrame> into) {
+            if (overwrittenUpTo > lastEventId) {
+                return false;
+            }
+            int start = (next - size + frames.length) % frames.length;
+            for (int i = 0; i < size; i++) {
+                SseFrame frame = frames[(start + i) % frames.length];
+                if (frame.getId() > lastEventId) {
+                    into.putIfAbsent(frame.getId(), frame);
+                }
+            }
+            return true;
+        }
+    }
+}
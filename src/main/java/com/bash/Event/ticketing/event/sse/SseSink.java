@@ -0,0 +1,15 @@
+package com.bash.Event.ticketing.event.sse;
+
+import java.io.IOException;
+
+// Where a client's frames are written. SseClient guarantees a single writer at a time, and
+// complete() is only called by that writer, never during a send.
+public interface SseSink {
+
+    void send(SseFrame frame) throws IOException;
+
+    void complete();
+
+    // Runs once the connection ends for any reason: completion, timeout or error
+    void onClose(Runnable callback);
+}
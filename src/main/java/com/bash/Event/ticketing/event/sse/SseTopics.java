@@ -0,0 +1,74 @@
+package com.bash.Event.ticketing.event.sse;
+
+import com.bash.Event.ticketing.Exceptions.InvalidSubscriptionException;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+public final class SseTopics {
+
+    // Clients that ask for no topics receive everything, as before topics existed
+    public static final String ALL = "*";
+    public static final String DASHBOARD = "dashboard";
+
+    private static final String EVENT_PREFIX = "event:";
+    private static final String OWNER_PREFIX = "owner:";
+    private static final int MAX_TOPICS_PER_CLIENT = 32;
+
+    private SseTopics() {
+        // Utility class - prevent instantiation
+    }
+
+    public static String event(UUID eventId) {
+        return EVENT_PREFIX + eventId;
+    }
+
+    public static String owner(String ownerEmail) {
+        return OWNER_PREFIX + ownerEmail.toLowerCase();
+    }
+
+    // Topics a message about an event is published on; the owner topic is skipped when unknown
+    public static Set<String> forEvent(UUID eventId, String ownerEmail) {
+        Set<String> topics = new LinkedHashSet<>(2);
+        if (eventId != null) {
+            topics.add(event(eventId));
+        }
+        if (ownerEmail != null && !ownerEmail.isBlank()) {
+            topics.add(owner(ownerEmail));
+        }
+        return topics;
+    }
+
+    public static Set<String> parse(Collection<String> requested) {
+        if (requested == null || requested.isEmpty()) {
+            return Set.of(ALL);
+        }
+        if (requested.size() > MAX_TOPICS_PER_CLIENT) {
+            throw new InvalidSubscriptionException("At most " + MAX_TOPICS_PER_CLIENT + " topics can be subscribed");
+        }
+        Set<String> topics = new LinkedHashSet<>();
+        for (String raw : requested) {
+            topics.add(normalize(raw == null ? "" : raw.trim()));
+        }
+        return Set.copyOf(topics);
+    }
+
+    private static String normalize(String topic) {
+        if (DASHBOARD.equals(topic) || ALL.equals(topic)) {
+            return topic;
+        }
+        if (topic.startsWith(EVENT_PREFIX)) {
+            try {
+                return event(UUID.fromString(topic.substring(EVENT_PREFIX.length())));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidSubscriptionException("Invalid event id in topic: " + topic);
+            }
+        }
+        if (topic.startsWith(OWNER_PREFIX) && topic.length() > OWNER_PREFIX.length()) {
+            return owner(topic.substring(OWNER_PREFIX.length()));
+        }
+        throw new InvalidSubscriptionException("Unknown SSE topic: " + topic);
+    }
+}
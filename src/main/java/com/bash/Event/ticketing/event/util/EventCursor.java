@@ -0,0 +1,40 @@
+package com.bash.Event.ticketing.event.util;
+
+import com.bash.Event.ticketing.Exceptions.InvalidCursorException;
+import com.bash.Event.ticketing.event.model.Event;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+// Position after the last event of a page in (startTime, id) order, handed to clients as an opaque
+// token. The id breaks ties between events starting at the same time.
+public record EventCursor(LocalDateTime startTime, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static EventCursor after(Event event) {
+        return new EventCursor(event.getStartTime(), event.getId());
+    }
+
+    public static EventCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException("Invalid cursor");
+            }
+            return new EventCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    UUID.fromString(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((startTime + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
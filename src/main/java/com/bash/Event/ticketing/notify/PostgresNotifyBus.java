@@ -0,0 +1,184 @@
+package com.bash.Event.ticketing.notify;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+// Multi-node messaging over PostgreSQL LISTEN/NOTIFY, shared by the SSE broadcast bus and the cache
+// invalidation bus. Messages travel as JSON; every node, the publisher included, receives each one
+// once on a dedicated listening connection and hands it to its local listeners. Subclasses decide
+// what replaces a message too large for NOTIFY and what to deliver after a lost connection.
+@Slf4j
+public abstract class PostgresNotifyBus<T> {
+
+    // NOTIFY payloads must be shorter than 8000 bytes
+    public static final int MAX_PAYLOAD_BYTES = 7999;
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+    private static final int POLL_TIMEOUT_MILLIS = 5_000;
+    private static final long RECONNECT_DELAY_MILLIS = 2_000;
+
+    private final String threadName;
+    private final DataSource dataSource;
+    // LISTEN keeps its connection for the life of the node, so it is not taken from the pool
+    private final DataSource listenDataSource;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+    private final Class<T> type;
+    private final List<Consumer<T>> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    protected PostgresNotifyBus(String threadName, DataSource dataSource, DataSource listenDataSource,
+                                ObjectMapper objectMapper, String channel, Class<T> type) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid notify channel: " + channel);
+        }
+        this.threadName = threadName;
+        this.dataSource = dataSource;
+        this.listenDataSource = listenDataSource;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+        this.type = type;
+    }
+
+    // A plain connection source for LISTEN, built from the same settings as the pool
+    protected static DataSource listenDataSource(DataSourceProperties dataSourceProperties) {
+        return new DriverManagerDataSource(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+    }
+
+    // Sent instead of a message whose payload would exceed MAX_PAYLOAD_BYTES
+    protected abstract T oversized(T message);
+
+    // Delivered locally once the listener is back: whatever was sent meanwhile is gone
+    protected abstract T reconnected();
+
+    // The message reached no node, this one included
+    protected abstract void publishFailed(T message, SQLException e);
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, threadName);
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    public void publish(T message) {
+        String payload = encode(message);
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            statement.setString(1, channel);
+            statement.setString(2, payload);
+            statement.execute();
+        } catch (SQLException e) {
+            publishFailed(message, e);
+        }
+    }
+
+    public void addListener(Consumer<T> listener) {
+        listeners.add(listener);
+    }
+
+    protected String getChannel() {
+        return channel;
+    }
+
+    protected void deliver(T message) {
+        for (Consumer<T> listener : listeners) {
+            try {
+                listener.accept(message);
+            } catch (RuntimeException e) {
+                log.error("Listener on notify channel {} failed", channel, e);
+            }
+        }
+    }
+
+    private void listen() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = listenDataSource.getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                if (reconnecting) {
+                    log.info("Re-listening on notify channel {}", channel);
+                    deliver(reconnected());
+                }
+                reconnecting = true;
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        T message = decode(notification.getParameter());
+                        if (message != null) {
+                            deliver(message);
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Notify channel {} listener lost its connection, retrying", channel, e);
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    protected String encode(T message) {
+        try {
+            String payload = objectMapper.writeValueAsString(message);
+            if (payload.getBytes(StandardCharsets.UTF_8).length <= MAX_PAYLOAD_BYTES) {
+                return payload;
+            }
+            return objectMapper.writeValueAsString(oversized(message));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode message for notify channel " + channel, e);
+        }
+    }
+
+    protected T decode(String payload) {
+        try {
+            return objectMapper.readValue(payload, type);
+        } catch (JsonProcessingException e) {
+            log.error("Ignoring malformed message on notify channel {}", channel, e);
+            return null;
+        }
+    }
+}
@@ -22,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -72,12 +73,15 @@ public class AuthenticationServiceImplTest {
     @Mock
     private EmailService emailService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private AuthenticationServiceImpl authenticationService;
 
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
-        authenticationService = new AuthenticationServiceImpl(jwtService, userRepository, authenticationManager, passwordEncoder, refreshTokenService, emailService);
+        authenticationService = new AuthenticationServiceImpl(jwtService, userRepository, authenticationManager, passwordEncoder, refreshTokenService, emailService, eventPublisher);
     }
 
     @Test
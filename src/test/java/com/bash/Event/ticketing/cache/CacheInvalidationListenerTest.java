@@ -0,0 +1,182 @@
+package com.bash.Event.ticketing.cache;
+
+import com.bash.Event.ticketing.config.CachingProperties;
+import com.bash.Event.ticketing.event.domain.EventChanged;
+import com.bash.Event.ticketing.event.domain.TicketPurchased;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.event.TransactionalEventListenerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Timeout(10)
+public class CacheInvalidationListenerTest {
+
+    private final UUID eventId = UUID.randomUUID();
+    private final UUID otherEventId = UUID.randomUUID();
+
+    private CacheManager cacheManager;
+    private EventPageIndex eventPageIndex;
+    private MissingIdCache missingIdCache;
+    private CacheInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(CacheNames.EVENTS, CacheNames.EVENT_PAGES, CacheNames.TICKETS, CacheNames.DASHBOARD,
+                CacheNames.VERSIONS);
+        eventPageIndex = new EventPageIndex(100, Duration.ofMinutes(30));
+        missingIdCache = new MissingIdCache(100, Duration.ofMinutes(10));
+        listener = new CacheInvalidationListener(cacheManager, eventPageIndex, missingIdCache);
+        cacheManager.getCache(CacheNames.EVENTS).put(eventId, "detail");
+        cacheManager.getCache(CacheNames.EVENTS).put(otherEventId, "other detail");
+        cacheManager.getCache(CacheNames.EVENT_PAGES).put("0_1", "page with event");
+        cacheManager.getCache(CacheNames.EVENT_PAGES).put("1_1", "page with other event");
+        eventPageIndex.record("0_1", List.of(eventId));
+        eventPageIndex.record("1_1", List.of(otherEventId));
+        cacheManager.getCache(CacheNames.TICKETS).put(eventId, "tickets");
+        cacheManager.getCache(CacheNames.TICKETS).put(otherEventId, "other tickets");
+        cacheManager.getCache(CacheNames.DASHBOARD).put(CacheNames.DASHBOARD_INSIGHTS_KEY, "insights");
+        cacheManager.getCache(CacheNames.VERSIONS).put(ResourceVersions.eventKey(eventId), "event version");
+        cacheManager.getCache(CacheNames.VERSIONS).put(ResourceVersions.ticketsKey(eventId), "tickets version");
+    }
+
+    @Test
+    void testPurchaseEvictsOnlyThatEventsTicketsAndTheDashboard() {
+        listener.onTicketPurchased(new TicketPurchased(UUID.randomUUID(), eventId, "owner@example.com", 1, null));
+        assertNull(cached(CacheNames.TICKETS, eventId));
+        assertNull(cached(CacheNames.DASHBOARD, CacheNames.DASHBOARD_INSIGHTS_KEY));
+        assertNull(cached(CacheNames.VERSIONS, ResourceVersions.ticketsKey(eventId)));
+        assertNotNull(cached(CacheNames.VERSIONS, ResourceVersions.eventKey(eventId)));
+        assertNotNull(cached(CacheNames.TICKETS, otherEventId));
+        assertNotNull(cached(CacheNames.EVENTS, eventId));
+        assertNotNull(cached(CacheNames.EVENT_PAGES, "0_1"));
+    }
+
+    @Test
+    void testUpdateEvictsTheDetailAndOnlyPagesListingTheEvent() {
+        listener.onEventChanged(new EventChanged(eventId, "owner@example.com", EventChanged.UPDATED, null));
+        assertNull(cached(CacheNames.EVENTS, eventId));
+        assertNull(cached(CacheNames.VERSIONS, ResourceVersions.eventKey(eventId)));
+        assertNotNull(cached(CacheNames.VERSIONS, ResourceVersions.ticketsKey(eventId)));
+        assertNull(cached(CacheNames.EVENT_PAGES, "0_1"));
+        assertNotNull(cached(CacheNames.EVENT_PAGES, "1_1"));
+        assertNotNull(cached(CacheNames.EVENTS, otherEventId));
+        assertNotNull(cached(CacheNames.TICKETS, eventId));
+        assertNotNull(cached(CacheNames.DASHBOARD, CacheNames.DASHBOARD_INSIGHTS_KEY));
+    }
+
+    @Test
+    void testRescheduleEvictsEveryPageSinceTheEventMoves() {
+        listener.onEventChanged(new EventChanged(eventId, "owner@example.com", EventChanged.UPDATED, null, true));
+        assertNull(cached(CacheNames.EVENTS, eventId));
+        assertNull(cached(CacheNames.EVENT_PAGES, "0_1"));
+        assertNull(cached(CacheNames.EVENT_PAGES, "1_1"));
+        assertNotNull(cached(CacheNames.EVENTS, otherEventId));
+        assertNotNull(cached(CacheNames.TICKETS, eventId));
+    }
+
+    @Test
+    void testDeleteEvictsEveryPageButKeepsOtherEventsDetails() {
+        listener.onEventChanged(new EventChanged(eventId, "owner@example.com", EventChanged.DELETED, null));
+        assertNull(cached(CacheNames.EVENT_PAGES, "0_1"));
+        assertNull(cached(CacheNames.EVENT_PAGES, "1_1"));
+        assertNull(cached(CacheNames.TICKETS, eventId));
+        assertNull(cached(CacheNames.DASHBOARD, CacheNames.DASHBOARD_INSIGHTS_KEY));
+        assertNotNull(cached(CacheNames.EVENTS, otherEventId));
+        assertNotNull(cached(CacheNames.TICKETS, otherEventId));
+        assertTrue(missingIdCache.isMissing(MissingIdCache.eventKey(eventId)));
+        assertFalse(missingIdCache.isMissing(MissingIdCache.eventKey(otherEventId)));
+    }
+
+    @Test
+    void testEvictsBeforeOtherAfterCommitListenersRead() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.registerBean(TransactionalEventListenerFactory.class);
+            context.registerBean(CacheManager.class, () -> cacheManager);
+            context.registerBean(DashboardReader.class);
+            context.registerBean(CacheInvalidationListener.class, () -> listener);
+            context.refresh();
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                context.publishEvent(new TicketPurchased(UUID.randomUUID(), eventId, "owner@example.com", 1, null));
+                TransactionSynchronizationUtils.invokeAfterCompletion(
+                        TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_COMMITTED);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+            assertEquals(List.of("missing"), context.getBean(DashboardReader.class).seen);
+        }
+    }
+
+    @Test
+    void testCommitsEvictionsLeaveAsOneMessage() {
+        InProcessCacheInvalidationBus bus = new InProcessCacheInvalidationBus();
+        List<CacheInvalidation> messages = new ArrayList<>();
+        bus.addListener(messages::add);
+        TwoLevelCacheManager twoLevelCacheManager = new TwoLevelCacheManager(new InMemorySharedCache(),
+                bus, name -> new CachingProperties.Spec(), Runnable::run);
+        new CacheInvalidationListener(twoLevelCacheManager, eventPageIndex, missingIdCache)
+                .onTicketPurchased(new TicketPurchased(UUID.randomUUID(), eventId, "owner@example.com", 1, null));
+        assertEquals(1, messages.size());
+        assertEquals(4, messages.get(0).entries().size());
+    }
+
+    @Test
+    void testUpdateOnAnotherNodeEvictsPagesItNeverLoaded() {
+        InMemorySharedCache sharedCache = new InMemorySharedCache();
+        InProcessCacheInvalidationBus bus = new InProcessCacheInvalidationBus();
+        TwoLevelCacheManager nodeA = node(sharedCache, bus);
+        TwoLevelCacheManager nodeB = node(sharedCache, bus);
+        EventPageIndex indexA = new EventPageIndex(100, Duration.ofMinutes(30));
+        nodeA.getCache(CacheNames.EVENT_PAGES).get("0_1", () -> {
+            indexA.record("0_1", List.of(eventId));
+            return "page with event";
+        });
+        assertEquals("page with event", nodeB.getCache(CacheNames.EVENT_PAGES).get("0_1").get());
+        new CacheInvalidationListener(nodeB, new EventPageIndex(100, Duration.ofMinutes(30)), missingIdCache)
+                .onEventChanged(new EventChanged(eventId, "owner@example.com", EventChanged.UPDATED, null));
+        assertNull(nodeA.getCache(CacheNames.EVENT_PAGES).get("0_1"));
+        assertNull(nodeB.getCache(CacheNames.EVENT_PAGES).get("0_1"));
+        assertNull(sharedCache.get(CacheNames.EVENT_PAGES, "0_1"));
+    }
+
+    private Object cached(String cacheName, Object key) {
+        return cacheManager.getCache(cacheName).get(key);
+    }
+
+    private static TwoLevelCacheManager node(SharedCache sharedCache, CacheInvalidationBus bus) {
+        return new TwoLevelCacheManager(sharedCache, bus, name -> new CachingProperties.Spec(), Runnable::run);
+    }
+
+    // Stands in for the dashboard batcher: reads the dashboard entry as soon as a purchase commits
+    static class DashboardReader {
+
+        private final CacheManager cacheManager;
+        private final List<String> seen = new ArrayList<>();
+
+        DashboardReader(CacheManager cacheManager) {
+            this.cacheManager = cacheManager;
+        }
+
+        @TransactionalEventListener(fallbackExecution = true)
+        public void onTicketPurchased(TicketPurchased event) {
+            boolean cachedInsights = cacheManager.getCache(CacheNames.DASHBOARD).get(CacheNames.DASHBOARD_INSIGHTS_KEY) != null;
+            seen.add(cachedInsights ? "cached" : "missing");
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.bash.Event.ticketing.cache;
+
+import com.bash.Event.ticketing.config.CachingProperties;
+import com.bash.Event.ticketing.event.dto.response.EventResponse;
+import com.bash.Event.ticketing.event.dto.response.MessageResponse;
+import com.bash.Event.ticketing.event.repository.EventRepository;
+import com.bash.Event.ticketing.event.service.EventService;
+import com.bash.Event.ticketing.event.service.TicketService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Timeout(10)
+public class CacheWarmerTest {
+
+    @Mock
+    private EventService eventService;
+
+    @Mock
+    private TicketService ticketService;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private final UUID listedEventId = UUID.randomUUID();
+    private final UUID upcomingEventId = UUID.randomUUID();
+
+    private CachingProperties cachingProperties;
+    private CacheWarmer cacheWarmer;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        cachingProperties = new CachingProperties();
+        cachingProperties.getWarmup().setPages(1);
+        cachingProperties.getWarmup().setUpcomingEvents(5);
+        cacheWarmer = new CacheWarmer(eventService, ticketService, eventRepository, cachingProperties);
+    }
+
+    @Test
+    void testWarmUpLoadsPagesUpcomingEventsAndTheirTickets() {
+        when(eventService.getAllEvents(Pageable.ofSize(10).withPage(0))).thenReturn(page(listedEventId));
+        when(eventRepository.findUpcomingEventIds(any(), any())).thenReturn(List.of(upcomingEventId, listedEventId));
+        when(ticketService.getEventTickets(upcomingEventId)).thenThrow(new IllegalStateException("database down"));
+        cacheWarmer.warmUp();
+        verify(eventService).getEventById(listedEventId);
+        verify(eventService).getEventById(upcomingEventId);
+        verify(ticketService).getEventTickets(listedEventId);
+        assertEquals(CacheWarmer.State.COMPLETED, cacheWarmer.getState());
+        assertEquals(5, cacheWarmer.getWarmedCount());
+        assertEquals(1, cacheWarmer.getFailedCount());
+    }
+
+    @Test
+    void testWarmUpGivesUpWhenTheBudgetRunsOut() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        cachingProperties.getWarmup().setBudget(Duration.ofMillis(50));
+        when(eventService.getAllEvents(any())).thenAnswer(invocation -> {
+            release.await();
+            return page(listedEventId);
+        });
+        cacheWarmer.warmUp();
+        release.countDown();
+        assertEquals(CacheWarmer.State.TIMED_OUT, cacheWarmer.getState());
+        verify(eventService, never()).getEventById(any());
+    }
+
+    @Test
+    void testDisabledWarmUpDoesNotHoldReadiness() {
+        cachingProperties.getWarmup().setEnabled(false);
+        cacheWarmer.onApplicationReady();
+        assertEquals(CacheWarmer.State.DISABLED, cacheWarmer.getState());
+        assertEquals("UP", new CacheWarmupHealthIndicator(cacheWarmer).health().getStatus().getCode());
+    }
+
+    private static MessageResponse<Page<EventResponse>> page(UUID eventId) {
+        return MessageResponse.success("Events Retrieved Successfully",
+                new PageImpl<>(List.of(EventResponse.builder().eventId(eventId).build())));
+    }
+}
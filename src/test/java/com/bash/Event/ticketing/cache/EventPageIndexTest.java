@@ -0,0 +1,53 @@
+package com.bash.Event.ticketing.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Timeout(10)
+public class EventPageIndexTest {
+
+    private final UUID first = UUID.randomUUID();
+    private final UUID second = UUID.randomUUID();
+    private final UUID third = UUID.randomUUID();
+
+    private EventPageIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EventPageIndex(100, Duration.ofMinutes(30));
+    }
+
+    @Test
+    void testRemovePagesForReturnsOnlyPagesListingTheEvent() {
+        index.record("0_2", List.of(first, second));
+        index.record("1_2", List.of(third));
+        index.record("0_10", List.of(first, second, third));
+        assertEquals(Set.of("0_2", "0_10"), index.removePagesFor(second));
+        assertEquals(Set.of("1_2"), index.removePagesFor(third));
+        assertTrue(index.removePagesFor(first).isEmpty());
+    }
+
+    @Test
+    void testRecordingAPageAgainReplacesItsMembers() {
+        index.record("0_2", List.of(first, second));
+        index.record("0_2", List.of(second, third));
+        assertTrue(index.removePagesFor(first).isEmpty());
+        assertEquals(Set.of("0_2"), index.removePagesFor(third));
+    }
+
+    @Test
+    void testRemoveAllPagesIncludesEmptyPages() {
+        index.record("0_2", List.of(first));
+        index.record("5_2", List.of());
+        assertEquals(Set.of("0_2", "5_2"), index.removeAllPages());
+        assertEquals(0, index.size());
+        assertTrue(index.removePagesFor(first).isEmpty());
+    }
+}
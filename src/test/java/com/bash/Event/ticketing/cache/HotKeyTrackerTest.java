@@ -0,0 +1,37 @@
+package com.bash.Event.ticketing.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Timeout(10)
+public class HotKeyTrackerTest {
+
+    @Test
+    void testKeysRankByHits() {
+        HotKeyTracker tracker = new HotKeyTracker(10);
+        hit(tracker, "warm", 3);
+        hit(tracker, "cold", 1);
+        hit(tracker, "hot", 5);
+        assertEquals(List.of("hot", "warm", "cold"), tracker.hottest(10));
+        assertEquals(List.of("hot"), tracker.hottest(1));
+    }
+
+    @Test
+    void testHotKeySurvivesALongTailPastCapacity() {
+        HotKeyTracker tracker = new HotKeyTracker(4);
+        hit(tracker, "hot", 50);
+        for (int i = 0; i < 100; i++) {
+            tracker.recordHit("tail-" + i);
+        }
+        assertEquals(List.of("hot"), tracker.hottest(1));
+        assertEquals(4, tracker.hottest(10).size());
+    }
+
+    private static void hit(HotKeyTracker tracker, String key, int hits) {
+        for (int i = 0; i < hits; i++) {
+            tracker.recordHit(key);
+        }
+    }
+}
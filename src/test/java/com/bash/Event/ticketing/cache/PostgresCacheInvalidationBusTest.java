@@ -0,0 +1,36 @@
+package com.bash.Event.ticketing.cache;
+
+import com.bash.Event.ticketing.config.CachingProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import javax.sql.DataSource;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+@Timeout(10)
+public class PostgresCacheInvalidationBusTest {
+
+    private PostgresCacheInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new PostgresCacheInvalidationBus(mock(DataSource.class), mock(DataSource.class), new ObjectMapper(), new CachingProperties());
+    }
+
+    @Test
+    void testOversizedKeyClearsTheWholeCache() {
+        CacheInvalidation invalidation = new CacheInvalidation("node-1", List.of(
+                new CacheInvalidation.Entry("events", "k".repeat(9_000)), new CacheInvalidation.Entry("events", "0_10"),
+                new CacheInvalidation.Entry("tickets", "t")));
+        assertEquals(new CacheInvalidation("node-1", List.of(new CacheInvalidation.Entry("events", null),
+                new CacheInvalidation.Entry("tickets", null))), bus.oversized(invalidation));
+    }
+
+    @Test
+    void testReconnectClearsEveryCache() {
+        assertEquals(CacheInvalidation.clear(PostgresCacheInvalidationBus.RECONNECT_ORIGIN, null), bus.reconnected());
+    }
+}
@@ -0,0 +1,67 @@
+package com.bash.Event.ticketing.cache;
+
+import com.bash.Event.ticketing.event.dto.response.EventResponse;
+import com.bash.Event.ticketing.event.dto.response.MessageResponse;
+import com.bash.Event.ticketing.event.model.Address;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@Timeout(10)
+public class PostgresSharedCacheTest {
+
+    @Test
+    void testCachedPageRoundTrips() {
+        EventResponse event = EventResponse.builder()
+                .eventId(UUID.randomUUID())
+                .title("Summer Festival")
+                .startTime(LocalDateTime.of(2026, 7, 1, 18, 0))
+                .address(Address.builder().build())
+                .build();
+        Page<EventResponse> page = new PageImpl<>(List.of(event), PageRequest.of(0, 10), 1);
+        MessageResponse<Page<EventResponse>> response = MessageResponse.success("Events Retrieved Successfully", page);
+        @SuppressWarnings("unchecked")
+        MessageResponse<Page<EventResponse>> decoded =
+                (MessageResponse<Page<EventResponse>>) PostgresSharedCache.decode(PostgresSharedCache.encode(response));
+        assertEquals(response.getMessage(), decoded.getMessage());
+        assertEquals(List.of(event), decoded.getData().getContent());
+        assertEquals(1, decoded.getData().getTotalElements());
+    }
+
+    @Test
+    void testCachedNullRoundTrips() {
+        assertSame(NullValue.INSTANCE, PostgresSharedCache.decode(PostgresSharedCache.encode(NullValue.INSTANCE)));
+    }
+
+    @Test
+    void testClassesOutsideTheAllowListAreRejected() {
+        assertNull(PostgresSharedCache.decode(PostgresSharedCache.encode(new AtomicLong(7))));
+    }
+
+    @Test
+    void testBatchEvictsInOneStatement() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        new PostgresSharedCache(jdbcTemplate).evictAll(List.of(new CacheInvalidation.Entry("events", "0_10"),
+                new CacheInvalidation.Entry("responses", null)));
+        verify(jdbcTemplate).update("DELETE FROM app_cache_entry WHERE (cache_name = ? AND cache_key = ?) OR cache_name = ?",
+                "events", "0_10", "responses");
+    }
+
+    @Test
+    void testUnserializableValuesStayLocal() {
+        assertNull(PostgresSharedCache.encode(new Object()));
+    }
+}
@@ -0,0 +1,66 @@
+package com.bash.Event.ticketing.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@Timeout(10)
+public class ResourceVersionsTest {
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_123L);
+    private final String key = ResourceVersions.ticketsKey(UUID.randomUUID());
+
+    private CacheManager cacheManager;
+    private ResourceVersions resourceVersions;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(CacheNames.VERSIONS);
+        resourceVersions = new ResourceVersions(cacheManager, new ObjectMapper(), now::get);
+    }
+
+    @Test
+    void testSameContentKeepsItsFirstVersion() {
+        ResourceVersion first = resourceVersions.record(key, List.of("vip", "general"), null);
+        now.addAndGet(60_000);
+        assertSame(first, resourceVersions.record(key, List.of("vip", "general"), null));
+        assertEquals(first, resourceVersions.get(key));
+        assertEquals(1_700_000_001_000L, first.lastModified());
+    }
+
+    @Test
+    void testChangedContentGetsNewValidators() {
+        ResourceVersion first = resourceVersions.record(key, List.of("vip"), null);
+        now.addAndGet(60_000);
+        ResourceVersion second = resourceVersions.record(key, List.of("vip", "general"), null);
+        assertNotEquals(first.etag(), second.etag());
+        assertEquals(1_700_000_061_000L, second.lastModified());
+    }
+
+    @Test
+    void testEtagIsStrongAndDerivedFromContentOnly() {
+        ResourceVersion version = resourceVersions.record(key, List.of("vip"), 1_500L);
+        ResourceVersions otherNode = new ResourceVersions(new ConcurrentMapCacheManager(CacheNames.VERSIONS),
+                new ObjectMapper(), () -> 0L);
+        assertEquals(version.etag(), otherNode.record(key, List.of("vip"), null).etag());
+        assertEquals('"', version.etag().charAt(0));
+        assertEquals(2_000L, version.lastModified());
+    }
+
+    @Test
+    void testEvictedVersionIsUnknown() {
+        resourceVersions.record(key, List.of("vip"), null);
+        cacheManager.getCache(CacheNames.VERSIONS).evict(key);
+        assertNull(resourceVersions.get(key));
+    }
+}
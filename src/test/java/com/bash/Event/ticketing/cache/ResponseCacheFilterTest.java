@@ -0,0 +1,145 @@
+package com.bash.Event.ticketing.cache;
+
+import com.bash.Event.ticketing.config.CachingProperties;
+import com.bash.Event.ticketing.event.service.TrendingService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@Timeout(10)
+public class ResponseCacheFilterTest {
+
+    private final UUID eventId = UUID.randomUUID();
+    private final AtomicInteger renders = new AtomicInteger();
+
+    private TwoLevelCacheManager cacheManager;
+    private TrendingService trendingService;
+    private ResponseCacheFilter filter;
+    private int status;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new TwoLevelCacheManager(null, new InProcessCacheInvalidationBus(),
+                name -> new CachingProperties.Spec(), Runnable::run);
+        cacheManager.setCacheNames(List.of(CacheNames.RESPONSES, CacheNames.RESPONSE_PAGES));
+        trendingService = mock(TrendingService.class);
+        filter = new ResponseCacheFilter(cacheManager, trendingService);
+        status = 200;
+    }
+
+    @Test
+    void testSecondAnonymousRequestIsServedFromCache() throws Exception {
+        get("/api/v1/events/" + eventId + "/tickets", null);
+        MockHttpServletResponse response = get("/api/v1/events/" + eventId + "/tickets", null);
+        assertEquals(1, renders.get());
+        assertEquals(200, response.getStatus());
+        assertEquals("{\"render\":1}", response.getContentAsString());
+        assertEquals("\"abc\"", response.getHeader("ETag"));
+        assertEquals("application/json", response.getContentType());
+    }
+
+    @Test
+    void testEventDetailHitsStillCountAsViews() throws Exception {
+        get("/api/v1/events/" + eventId, null);
+        get("/api/v1/events/" + eventId, null);
+        assertEquals(1, renders.get());
+        verify(trendingService, times(1)).recordView(eventId);
+    }
+
+    @Test
+    void testEquivalentListingUrlsShareOneEntry() throws Exception {
+        get("/api/v1/events", null);
+        get("/api/v1/events", "page=0&size=10");
+        get("/api/v1/events", "page=1&size=10");
+        assertEquals(2, renders.get());
+    }
+
+    @Test
+    void testAuthenticatedAndFailedRequestsAreNotCached() throws Exception {
+        MockHttpServletRequest authenticated = request("/api/v1/events/" + eventId, null);
+        authenticated.addHeader("Authorization", "Bearer token");
+        filter.doFilter(authenticated, new MockHttpServletResponse(), chain());
+        status = 404;
+        get("/api/v1/events/" + eventId, null);
+        status = 200;
+        get("/api/v1/events/" + eventId, null);
+        assertEquals(3, renders.get());
+    }
+
+    @Test
+    void testEvictedResponseIsRenderedAgain() throws Exception {
+        get("/api/v1/events/" + eventId, null);
+        cacheManager.getCache(CacheNames.RESPONSES).evict(ResourceVersions.eventKey(eventId));
+        get("/api/v1/events/" + eventId, null);
+        assertEquals(2, renders.get());
+    }
+
+    @Test
+    void testRenderingOverlappingAnEvictionIsNotKept() throws Exception {
+        String key = ResourceVersions.eventKey(eventId);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request("/api/v1/events/" + eventId, null), response, (request, servletResponse) -> {
+            chain().doFilter(request, servletResponse);
+            cacheManager.getCache(CacheNames.RESPONSES).evict(key);
+        });
+        assertEquals("{\"render\":1}", response.getContentAsString());
+        assertNull(cacheManager.getCache(CacheNames.RESPONSES).get(key));
+        get("/api/v1/events/" + eventId, null);
+        get("/api/v1/events/" + eventId, null);
+        assertEquals(2, renders.get());
+    }
+
+    @Test
+    void testLaterRenderingIsNotReplaced() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request("/api/v1/events", null), response, (request, servletResponse) -> {
+            chain().doFilter(request, servletResponse);
+            filter.doFilter(request("/api/v1/events", null), new MockHttpServletResponse(), chain());
+        });
+        MockHttpServletResponse cached = get("/api/v1/events", null);
+        assertEquals(2, renders.get());
+        assertEquals("{\"render\":2}", cached.getContentAsString());
+    }
+
+    private MockHttpServletResponse get(String uri, String query) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(uri, query), response, chain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String uri, String query) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        if (query != null) {
+            request.setQueryString(query);
+            for (String parameter : query.split("&")) {
+                String[] pair = parameter.split("=");
+                request.addParameter(pair[0], pair[1]);
+            }
+        }
+        return request;
+    }
+
+    private FilterChain chain() {
+        return (request, response) -> {
+            int render = renders.incrementAndGet();
+            HttpServletResponse httpResponse = (HttpServletResponse) response;
+            httpResponse.setStatus(status);
+            httpResponse.setContentType("application/json");
+            httpResponse.setHeader("ETag", "\"abc\"");
+            httpResponse.getOutputStream().write(("{\"render\":" + render + "}").getBytes(StandardCharsets.UTF_8));
+        };
+    }
+}
@@ -0,0 +1,50 @@
+package com.bash.Event.ticketing.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.cache.support.NullValue;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Timeout(10)
+public class SerializedSizeWeigherTest {
+
+    private final SerializedSizeWeigher weigher = new SerializedSizeWeigher(new ObjectMapper());
+
+    @Test
+    void testWeightGrowsWithSerializedSize() {
+        int small = weigher.weigh("insights", Map.of("totalEvents", 3));
+        int large = weigher.weigh("0_20", Collections.nCopies(20, Map.of("title", "Summer Festival", "description", "Live music")));
+        assertEquals("{\"totalEvents\":3}".length() + SerializedSizeWeigher.ENTRY_OVERHEAD, small);
+        int overhead = SerializedSizeWeigher.ENTRY_OVERHEAD;
+        assertTrue(large - overhead > (small - overhead) * 20, "page " + large + " bytes, single object " + small);
+    }
+
+    @Test
+    void testNullAndUnserializableValuesGetFixedWeights() {
+        assertEquals(SerializedSizeWeigher.ENTRY_OVERHEAD, weigher.weigh("missing", NullValue.INSTANCE));
+        assertEquals(SerializedSizeWeigher.FALLBACK_WEIGHT, weigher.weigh("thread", new Object()));
+    }
+
+    @Test
+    void testCacheIsBoundedInBytes() {
+        Cache<Object, Object> cache = Caffeine.newBuilder()
+                .maximumWeight(2_000)
+                .weigher(weigher)
+                .executor(Runnable::run)
+                .build();
+        for (int i = 0; i < 50; i++) {
+            cache.put(i, List.of("x".repeat(100)));
+        }
+        cache.cleanUp();
+        long weight = cache.policy().eviction().orElseThrow().weightedSize().orElseThrow();
+        assertTrue(weight <= 2_000, "weighted size " + weight);
+        assertTrue(cache.estimatedSize() < 50);
+    }
+}
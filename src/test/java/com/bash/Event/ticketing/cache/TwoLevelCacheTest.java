@@ -0,0 +1,223 @@
+package com.bash.Event.ticketing.cache;
+
+import com.bash.Event.ticketing.config.CachingProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.cache.Cache;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@Timeout(10)
+public class TwoLevelCacheTest {
+
+    private final UUID eventId = UUID.randomUUID();
+    private final AtomicLong now = new AtomicLong(1_000);
+
+    private InMemorySharedCache sharedCache;
+    private InProcessCacheInvalidationBus bus;
+    private TwoLevelCacheManager managerA;
+    private Cache nodeA;
+    private Cache nodeB;
+
+    @BeforeEach
+    void setUp() {
+        sharedCache = new InMemorySharedCache(now::get);
+        bus = new InProcessCacheInvalidationBus();
+        managerA = node(sharedCache, bus);
+        nodeA = managerA.getCache("events");
+        nodeB = node(sharedCache, bus).getCache("events");
+    }
+
+    @Test
+    void testOtherNodeReadsThroughTheSharedLevel() {
+        nodeA.put(eventId, "detail");
+        assertEquals("detail", nodeB.get(eventId).get());
+        assertEquals("detail", sharedCache.get("events", eventId.toString()));
+    }
+
+    @Test
+    void testEvictionDropsEveryNodesLocalCopy() {
+        nodeA.put(eventId, "detail");
+        nodeB.get(eventId);
+        nodeA.evict(eventId);
+        assertNull(nodeB.get(eventId));
+        assertNull(sharedCache.get("events", eventId.toString()));
+    }
+
+    @Test
+    void testLocalCopySurvivesUntilInvalidated() {
+        nodeA.put(eventId, "detail");
+        nodeB.get(eventId);
+        sharedCache.clear("events");
+        assertEquals("detail", nodeB.get(eventId).get());
+        nodeA.clear();
+        assertNull(nodeB.get(eventId));
+    }
+
+    @Test
+    void testSyncLoadRunsOnceAcrossNodes() {
+        AtomicInteger loads = new AtomicInteger();
+        assertEquals("page", nodeA.get("0_10", () -> {
+            loads.incrementAndGet();
+            return "page";
+        }));
+        assertEquals("page", nodeB.get("0_10", () -> {
+            loads.incrementAndGet();
+            return "reloaded";
+        }));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testConcurrentMissesShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Callable<String> loader = () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            release.await();
+            return "detail";
+        };
+        Queue<Object> results = new ConcurrentLinkedQueue<>();
+        Thread first = new Thread(() -> results.add(nodeA.get(eventId, loader)));
+        Thread second = new Thread(() -> results.add(nodeA.get(eventId, loader)));
+        first.start();
+        loading.await();
+        second.start();
+        while (second.getState() != Thread.State.BLOCKED && second.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        first.join();
+        second.join();
+        assertEquals(List.of("detail", "detail"), List.copyOf(results));
+        assertEquals(1, loads.get());
+        assertEquals(1, ((TwoLevelCache) nodeA).getCoalescedLoadCount());
+    }
+
+    @Test
+    void testLoadsThatDoNotOverlapAreNotCoalesced() {
+        assertEquals("detail", nodeA.get(eventId, () -> "detail"));
+        nodeA.evict(eventId);
+        assertEquals("reloaded", nodeA.get(eventId, () -> "reloaded"));
+        assertEquals("reloaded", nodeA.get(eventId, () -> "unused"));
+        assertEquals(0, ((TwoLevelCache) nodeA).getCoalescedLoadCount());
+    }
+
+    @Test
+    void testSharedEntriesExpire() {
+        nodeA.put(eventId, "detail");
+        now.addAndGet(Duration.ofMinutes(31).toMillis());
+        assertNull(nodeB.get(eventId));
+    }
+
+    @Test
+    void testAgingEntryIsServedThenRefreshedInBackground() {
+        Queue<Runnable> refreshes = new ArrayDeque<>();
+        Cache cache = refreshingCache(refreshes);
+        assertEquals("v1", cache.get("0_10", () -> "v1"));
+        now.addAndGet(Duration.ofMinutes(26).toMillis());
+        assertEquals("v1", cache.get("0_10", () -> "v2"));
+        assertEquals("v1", cache.get("0_10", () -> "v3"));
+        assertEquals(1, refreshes.size());
+        refreshes.poll().run();
+        assertEquals("v2", cache.get("0_10").get());
+    }
+
+    @Test
+    void testRefreshDoesNotUndoConcurrentEviction() {
+        Queue<Runnable> refreshes = new ArrayDeque<>();
+        Cache cache = refreshingCache(refreshes);
+        cache.get("0_10", () -> "v1");
+        now.addAndGet(Duration.ofMinutes(26).toMillis());
+        cache.get("0_10", () -> "stale");
+        cache.evict("0_10");
+        refreshes.poll().run();
+        assertNull(cache.get("0_10"));
+    }
+
+    @Test
+    void testGenerationChangesWhenAnyNodeEvicts() {
+        TwoLevelCache cacheB = (TwoLevelCache) nodeB;
+        long generation = cacheB.generation(eventId);
+        nodeA.put(eventId, "detail");
+        assertEquals(generation, cacheB.generation(eventId));
+        nodeA.evict(eventId);
+        long evicted = cacheB.generation(eventId);
+        nodeA.clear();
+        assertEquals(generation + 1, evicted);
+        assertEquals(evicted + 1, cacheB.generation(eventId));
+    }
+
+    @Test
+    void testLoadOverlappingAnEvictionStaysOutOfTheSharedLevel() throws Exception {
+        TwoLevelCache cacheA = (TwoLevelCache) nodeA;
+        long generation = cacheA.generation("0_10");
+        Thread evictor = new Thread(() -> nodeB.evict("0_10"));
+        assertEquals("stale", nodeA.get("0_10", () -> {
+            evictor.start();
+            while (cacheA.generation("0_10") == generation) {
+                Thread.onSpinWait();
+            }
+            return "stale";
+        }));
+        evictor.join();
+        assertNull(sharedCache.get("events", "0_10"));
+        assertNull(nodeA.get("0_10"));
+    }
+
+    @Test
+    void testBatchedEvictionsLeaveAsOneMessage() {
+        Queue<CacheInvalidation> messages = new ConcurrentLinkedQueue<>();
+        bus.addListener(messages::add);
+        nodeA.put(eventId, "detail");
+        nodeA.put("0_10", "page");
+        nodeB.get(eventId);
+        nodeB.get("0_10");
+        managerA.batchEvictions(() -> {
+            nodeA.evict(eventId);
+            nodeA.evict("0_10");
+            assertEquals("detail", nodeB.get(eventId).get());
+        });
+        assertEquals(1, messages.size());
+        assertEquals(2, messages.peek().entries().size());
+        assertNull(nodeA.get(eventId));
+        assertNull(nodeB.get(eventId));
+        assertNull(nodeB.get("0_10"));
+        assertNull(sharedCache.get("events", "0_10"));
+    }
+
+    private Cache refreshingCache(Queue<Runnable> refreshes) {
+        CachingProperties.Spec spec = new CachingProperties.Spec();
+        spec.setRefreshAfterWrite(Duration.ofMinutes(25));
+        Executor executor = refreshes::add;
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(null, new InProcessCacheInvalidationBus(),
+                name -> spec, executor);
+        cacheManager.registerCustomCache("events", Caffeine.newBuilder()
+                .expireAfterWrite(spec.getExpireAfterWrite())
+                .ticker(() -> now.get() * 1_000_000)
+                .build());
+        return cacheManager.getCache("events");
+    }
+
+    private static TwoLevelCacheManager node(SharedCache sharedCache, CacheInvalidationBus bus) {
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(sharedCache, bus,
+                name -> new CachingProperties.Spec(), Runnable::run);
+        cacheManager.registerCustomCache("events", Caffeine.newBuilder().maximumSize(100).build());
+        return cacheManager;
+    }
+}
@@ -0,0 +1,73 @@
+package com.bash.Event.ticketing.cache.service.impl;
+
+import com.bash.Event.ticketing.Exceptions.CacheNotFoundException;
+import com.bash.Event.ticketing.cache.InProcessCacheInvalidationBus;
+import com.bash.Event.ticketing.cache.TwoLevelCacheManager;
+import com.bash.Event.ticketing.config.CachingProperties;
+import com.bash.Event.ticketing.cache.dto.CacheStatsResponse;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Timeout(10)
+public class CacheAdminServiceImplTest {
+
+    private TwoLevelCacheManager cacheManager;
+    private CacheAdminServiceImpl cacheAdminService;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new TwoLevelCacheManager(null, new InProcessCacheInvalidationBus(),
+                name -> new CachingProperties.Spec(), Runnable::run);
+        cacheManager.registerCustomCache("events", Caffeine.newBuilder()
+                .maximumWeight(1_000_000)
+                .weigher((key, value) -> 100)
+                .executor(Runnable::run)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache("dashboard", Caffeine.newBuilder().maximumSize(10).recordStats().build());
+        cacheAdminService = new CacheAdminServiceImpl(cacheManager);
+    }
+
+    @Test
+    void testStatsReportHitRateWeightAndHottestKeys() {
+        Cache events = cacheManager.getCache("events");
+        events.put("cold", "page");
+        events.put("hot", "page");
+        for (int i = 0; i < 5; i++) {
+            events.get("hot");
+        }
+        events.get("missing");
+        ((CaffeineCache) events).getNativeCache().cleanUp();
+        CacheStatsResponse stats = cacheAdminService.getCacheStats("events", 1);
+        assertEquals(2, stats.getSize());
+        assertEquals(200, stats.getWeightedSize());
+        assertEquals(1_000_000, stats.getMaximumWeight());
+        assertEquals(5, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(5.0 / 6, stats.getHitRate(), 1e-9);
+        assertEquals(List.of("hot"), stats.getTopKeys());
+    }
+
+    @Test
+    void testAllCachesAreListedWithoutKeys() {
+        List<CacheStatsResponse> all = cacheAdminService.getAllCacheStats();
+        assertEquals(List.of("dashboard", "events"), all.stream().map(CacheStatsResponse::getName).toList());
+        assertTrue(all.get(1).getTopKeys().isEmpty());
+        assertNull(all.get(0).getMaximumWeight());
+    }
+
+    @Test
+    void testUnknownCacheIsNotCreated() {
+        assertThrows(CacheNotFoundException.class, () -> cacheAdminService.getCacheStats("nope", 10));
+        assertEquals(2, cacheManager.getCacheNames().size());
+    }
+}
@@ -0,0 +1,57 @@
+package com.bash.Event.ticketing.event.listener;
+
+import com.bash.Event.ticketing.event.domain.TicketPurchased;
+import com.bash.Event.ticketing.event.domain.TicketScanned;
+import com.bash.Event.ticketing.event.dto.response.DashboardInsights;
+import com.bash.Event.ticketing.event.dto.response.MessageResponse;
+import com.bash.Event.ticketing.event.service.SseService;
+import com.bash.Event.ticketing.event.service.TicketService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import java.util.UUID;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Timeout(10)
+public class DashboardUpdateBatcherTest {
+
+    @Mock
+    private TicketService ticketService;
+
+    @Mock
+    private SseService sseService;
+
+    private DashboardUpdateBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        batcher = new DashboardUpdateBatcher(ticketService, sseService);
+    }
+
+    @Test
+    void testFlushCoalescesChangesIntoOneUpdate() {
+        DashboardInsights insights = DashboardInsights.builder().totalTicketsSold(3L).build();
+        when(ticketService.getDashboardInsights()).thenReturn(MessageResponse.success("Dashboard insights retrieved", insights));
+        UUID eventId = UUID.randomUUID();
+        batcher.onTicketPurchased(new TicketPurchased(UUID.randomUUID(), eventId, "owner@example.com", 2, null));
+        batcher.onTicketPurchased(new TicketPurchased(UUID.randomUUID(), eventId, "owner@example.com", 1, null));
+        batcher.onTicketScanned(new TicketScanned(UUID.randomUUID(), eventId, "owner@example.com", null));
+        batcher.flush();
+        batcher.flush();
+        verify(ticketService, times(1)).getDashboardInsights();
+        verify(sseService, times(1)).sendDashboardUpdate(insights);
+    }
+
+    @Test
+    void testFlushWithoutChangesSendsNothing() {
+        batcher.flush();
+        verify(sseService, never()).sendDashboardUpdate(any());
+    }
+}
@@ -0,0 +1,117 @@
+package com.bash.Event.ticketing.event.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Timeout(10)
+public class EventSearchIndexTest {
+
+    @Test
+    void testTitleMatchesOutrankDescriptionMatches() {
+        EventSearchIndex index = new EventSearchIndex();
+        UUID festival = UUID.randomUUID();
+        UUID jazzNight = UUID.randomUUID();
+        index.index(festival, "Rock Festival", "Live music all night", "Stadium Accra");
+        index.index(jazzNight, "Jazz Night", "Smooth jazz and rock classics", "Club Kumasi");
+        List<SearchHit> hits = index.search("rock", 10);
+        assertEquals(List.of(festival, jazzNight), hits.stream().map(SearchHit::eventId).toList());
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+    }
+
+    @Test
+    void testAccentsAndCaseAreFolded() {
+        EventSearchIndex index = new EventSearchIndex();
+        UUID eventId = UUID.randomUUID();
+        index.index(eventId, "Caf\u00e9 Sessions", null, "Osu, Accra");
+        assertEquals(eventId, index.search("CAFE", 10).get(0).eventId());
+        assertEquals(eventId, index.search("caf\u00e9", 10).get(0).eventId());
+        assertEquals(List.of("cafe"), index.suggest("Caf\u00e9", 10));
+    }
+
+    @Test
+    void testReindexReplacesOldText() {
+        EventSearchIndex index = new EventSearchIndex();
+        UUID eventId = UUID.randomUUID();
+        index.index(eventId, "Comedy Night", "Stand-up", "Accra");
+        index.index(eventId, "Poetry Evening", "Spoken word", "Accra");
+        assertTrue(index.search("comedy", 10).isEmpty());
+        assertEquals(eventId, index.search("poetry", 10).get(0).eventId());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void testRemovedEventsAreNotFoundAndScoresStayPositive() {
+        EventSearchIndex index = new EventSearchIndex();
+        UUID removed = UUID.randomUUID();
+        UUID kept = UUID.randomUUID();
+        index.index(removed, "Rock Festival", "Live music", "Accra");
+        index.index(kept, "Jazz Night", "Jazz and rock", "Kumasi");
+        index.remove(removed);
+        List<SearchHit> hits = index.search("rock", 10);
+        assertEquals(List.of(kept), hits.stream().map(SearchHit::eventId).toList());
+        assertTrue(hits.get(0).score() > 0);
+    }
+
+    @Test
+    void testSuggestCompletesLastWordByDocumentFrequency() {
+        EventSearchIndex index = new EventSearchIndex();
+        index.index(UUID.randomUUID(), "Concert in the park", null, null);
+        index.index(UUID.randomUUID(), "Open air concert", null, null);
+        index.index(UUID.randomUUID(), "Conference on design", null, null);
+        assertEquals(List.of("concert", "conference"), index.suggest("live con", 10));
+        assertEquals(List.of("concert"), index.suggest("conc", 10));
+        assertEquals(List.of("concert"), index.suggest("co", 1));
+        assertTrue(index.suggest("zz", 10).isEmpty());
+    }
+
+    @Test
+    void testPrunedTopHitsScoreLikeFullRanking() {
+        EventSearchIndex index = new EventSearchIndex();
+        Random random = new Random(7);
+        String[] words = {"music", "live", "jazz", "rock", "accra", "festival", "night", "art", "food", "comedy"};
+        for (int i = 0; i < 5000; i++) {
+            index.index(UUID.randomUUID(), randomText(random, words, 3), randomText(random, words, 2 + random.nextInt(20)), "Hall");
+        }
+        for (String query : List.of("jazz", "rock night", "music food art", "festival accra live comedy")) {
+            List<SearchHit> all = index.search(query, 5000);
+            List<SearchHit> top = index.search(query, 10);
+            assertEquals(10, top.size());
+            // Terms are summed in a different order when pruning, so scores may differ in the last bit
+            for (int i = 0; i < 10; i++) {
+                assertEquals(all.get(i).score(), top.get(i).score(), 1e-9, query);
+            }
+        }
+    }
+
+    @Test
+    void testCompactionKeepsLiveEventsSearchable() {
+        EventSearchIndex index = new EventSearchIndex();
+        List<UUID> eventIds = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            UUID eventId = UUID.randomUUID();
+            eventIds.add(eventId);
+            index.index(eventId, "Event " + (i % 2 == 0 ? "even" : "odd"), "number " + i, null);
+        }
+        for (int i = 0; i < 3000; i += 2) {
+            index.remove(eventIds.get(i));
+        }
+        assertEquals(1500, index.size());
+        assertTrue(index.search("even", 10).isEmpty());
+        assertEquals(1500, index.search("odd", 3000).size());
+        assertEquals(eventIds.get(2999), index.search("2999", 10).get(0).eventId());
+    }
+
+    private static String randomText(Random random, String[] words, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            text.append(words[random.nextInt(words.length)]).append(' ');
+        }
+        return text.toString();
+    }
+}
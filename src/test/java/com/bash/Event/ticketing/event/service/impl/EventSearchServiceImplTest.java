@@ -0,0 +1,97 @@
+package com.bash.Event.ticketing.event.service.impl;
+
+import com.bash.Event.ticketing.cache.CacheInvalidation;
+import com.bash.Event.ticketing.cache.CacheInvalidationBus;
+import com.bash.Event.ticketing.cache.CacheNames;
+import com.bash.Event.ticketing.event.model.Address;
+import com.bash.Event.ticketing.event.model.Event;
+import com.bash.Event.ticketing.event.repository.EventRepository;
+import com.bash.Event.ticketing.event.search.SearchHit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@Timeout(10)
+public class EventSearchServiceImplTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private CacheInvalidationBus invalidationBus;
+
+    private EventSearchServiceImpl searchService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        searchService = new EventSearchServiceImpl(eventRepository, invalidationBus, 2, Runnable::run);
+    }
+
+    @Test
+    public void testRebuildReadsEventsInKeysetBatches() {
+        Event first = event("Jazz Night", "Accra");
+        Event second = event("Rock Festival", "Kumasi");
+        Event third = event("Jazz Brunch", "Takoradi");
+        when(eventRepository.findByIdGreaterThanOrderByIdAsc(new UUID(0, 0), Limit.of(2))).thenReturn(List.of(first, second));
+        when(eventRepository.findByIdGreaterThanOrderByIdAsc(second.getId(), Limit.of(2))).thenReturn(List.of(third));
+        searchService.rebuild();
+        assertEquals(2, searchService.search("jazz", 10).size());
+        assertEquals(second.getId(), searchService.search("kumasi", 10).get(0).eventId());
+        verify(eventRepository, times(2)).findByIdGreaterThanOrderByIdAsc(any(), any());
+    }
+
+    @Test
+    public void testEvictedEventIsReindexedOrRemoved() {
+        Event event = event("Comedy Night", "Accra");
+        when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+        searchService.onInvalidation(CacheInvalidation.of("node", CacheNames.EVENTS, event.getId().toString()));
+        assertEquals(List.of(event.getId()), searchService.search("comedy", 10).stream().map(SearchHit::eventId).toList());
+        event.setTitle("Poetry Evening");
+        searchService.onInvalidation(CacheInvalidation.of("node", CacheNames.EVENTS, event.getId().toString()));
+        assertTrue(searchService.search("comedy", 10).isEmpty());
+        when(eventRepository.findById(event.getId())).thenReturn(Optional.empty());
+        searchService.onInvalidation(CacheInvalidation.of("node", CacheNames.EVENTS, event.getId().toString()));
+        assertTrue(searchService.search("poetry", 10).isEmpty());
+    }
+
+    @Test
+    public void testPageKeysAndOtherCachesAreIgnored() {
+        searchService.onInvalidation(CacheInvalidation.of("node", CacheNames.EVENTS, "0_10"));
+        searchService.onInvalidation(CacheInvalidation.of("node", CacheNames.TICKETS, UUID.randomUUID().toString()));
+        searchService.onInvalidation(CacheInvalidation.clear("node", CacheNames.DASHBOARD));
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    public void testClearedEventsCacheRebuildsIndex() {
+        Event event = event("Jazz Night", "Accra");
+        when(eventRepository.findByIdGreaterThanOrderByIdAsc(any(), any())).thenReturn(List.of(event));
+        searchService.onInvalidation(CacheInvalidation.clear("reconnect", null));
+        assertEquals(event.getId(), searchService.search("jazz", 10).get(0).eventId());
+        verify(eventRepository, never()).findById(any());
+    }
+
+    private static Event event(String title, String city) {
+        return Event.builder()
+                .id(UUID.randomUUID())
+                .title(title)
+                .description("An evening out")
+                .venue(Address.builder().venueName("Main Hall").city(city).build())
+                .build();
+    }
+}
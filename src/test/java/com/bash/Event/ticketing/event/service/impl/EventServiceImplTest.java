@@ -1,20 +1,31 @@
 package com.bash.Event.ticketing.event.service.impl;
 
+import com.bash.Event.ticketing.Exceptions.EventNotFoundException;
+import com.bash.Event.ticketing.Exceptions.InvalidCursorException;
+import com.bash.Event.ticketing.cache.EventPageIndex;
+import com.bash.Event.ticketing.cache.MissingIdCache;
+import com.bash.Event.ticketing.event.domain.EventChanged;
 import com.bash.Event.ticketing.event.dto.request.EventRequest;
+import com.bash.Event.ticketing.event.dto.response.CursorPage;
 import com.bash.Event.ticketing.event.dto.response.EventResponse;
+import com.bash.Event.ticketing.event.dto.response.EventSearchResponse;
 import com.bash.Event.ticketing.event.dto.response.MessageResponse;
+import com.bash.Event.ticketing.event.dto.response.TrendingEventResponse;
 import com.bash.Event.ticketing.event.mappers.EventMapper;
 import com.bash.Event.ticketing.event.model.Address;
 import com.bash.Event.ticketing.event.model.Event;
 import com.bash.Event.ticketing.event.repository.EventRepository;
+import com.bash.Event.ticketing.event.search.SearchHit;
 import com.bash.Event.ticketing.event.service.EventOwnershipService;
-import com.bash.Event.ticketing.event.service.SseService;
+import com.bash.Event.ticketing.event.service.EventSearchService;
+import com.bash.Event.ticketing.event.service.TrendingService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -22,6 +33,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
@@ -32,9 +44,13 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeast;
@@ -42,6 +58,8 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -55,17 +73,29 @@ public class EventServiceImplTest {
     private EventMapper eventMapper;
 
     @Mock
-    private SseService sseService;
+    private EventOwnershipService eventOwnershipService;
 
     @Mock
-    private EventOwnershipService eventOwnershipService;
+    private TrendingService trendingService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EventPageIndex eventPageIndex;
+
+    @Mock
+    private EventSearchService eventSearchService;
+
+    private MissingIdCache missingIdCache;
 
     private EventServiceImpl eventService;
 
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
-        eventService = new EventServiceImpl(eventRepository, eventMapper, sseService, eventOwnershipService);
+        missingIdCache = new MissingIdCache(100, Duration.ofMinutes(10));
+        eventService = new EventServiceImpl(eventRepository, eventMapper, eventOwnershipService, trendingService, eventPublisher, eventPageIndex, missingIdCache, eventSearchService);
     }
 
     @Test
@@ -99,7 +129,6 @@ public class EventServiceImplTest {
             when(eventMapper.mapToEvent(eventRequest)).thenReturn(mappedEvent);
             when(eventRepository.save(any(Event.class))).thenReturn(savedEvent);
             when(eventMapper.mapToEventResponse(savedEvent)).thenReturn(eventResponse);
-            doNothing().when(sseService).sendEventUpdate(any(UUID.class), anyString(), any());
             // Act
             MessageResponse<EventResponse> result = eventService.createEvent(eventRequest);
             // Assert
@@ -108,7 +137,7 @@ public class EventServiceImplTest {
             assertEquals("Event Created Successfully", result.getMessage());
             assertNotNull(result.getData());
             verify(eventRepository, atLeast(1)).save(any(Event.class));
-            verify(sseService, atLeast(1)).sendEventUpdate(any(UUID.class), eq("CREATED"), any());
+            verify(eventPublisher, atLeast(1)).publishEvent(new EventChanged(savedEvent.getId(), "test@example.com", EventChanged.CREATED, eventResponse));
         }
     }
 
@@ -161,7 +190,6 @@ public class EventServiceImplTest {
             when(eventMapper.mapToEvent(eventRequest)).thenReturn(updatedMappedEvent);
             when(eventRepository.save(existingEvent)).thenReturn(existingEvent);
             when(eventMapper.mapToEventResponse(existingEvent)).thenReturn(eventResponse);
-            doNothing().when(sseService).sendEventUpdate(eventId, "UPDATED", eventResponse);
             // Act
             MessageResponse<EventResponse> result = eventService.updateEvent(eventId, eventRequest);
             // Assert
@@ -171,7 +199,9 @@ public class EventServiceImplTest {
             assertNotNull(result.getData());
             verify(eventOwnershipService, atLeast(1)).validateEventOwnership(eventId, "test@example.com");
             verify(eventRepository, atLeast(1)).save(existingEvent);
-            verify(sseService, atLeast(1)).sendEventUpdate(eventId, "UPDATED", eventResponse);
+            verify(eventPublisher, atLeast(1)).publishEvent(argThat((Object event) -> event instanceof EventChanged changed
+                    && changed.eventId().equals(eventId) && EventChanged.UPDATED.equals(changed.changeType()) && changed.event() == eventResponse
+                    && !changed.rescheduled()));
         }
     }
 
@@ -225,7 +255,6 @@ public class EventServiceImplTest {
             when(eventMapper.mapToEvent(eventRequest)).thenReturn(updatedMappedEvent);
             when(eventRepository.save(existingEvent)).thenReturn(existingEvent);
             when(eventMapper.mapToEventResponse(existingEvent)).thenReturn(eventResponse);
-            doNothing().when(sseService).sendEventUpdate(eventId, "UPDATED", eventResponse);
             // Act
             MessageResponse<EventResponse> result = eventService.updateEvent(eventId, eventRequest);
             // Assert
@@ -269,7 +298,6 @@ public class EventServiceImplTest {
             when(eventMapper.mapToEvent(eventRequest)).thenReturn(updatedMappedEvent);
             when(eventRepository.save(existingEvent)).thenReturn(existingEvent);
             when(eventMapper.mapToEventResponse(existingEvent)).thenReturn(eventResponse);
-            doNothing().when(sseService).sendEventUpdate(eventId, "UPDATED", eventResponse);
             // Act
             MessageResponse<EventResponse> result = eventService.updateEvent(eventId, eventRequest);
             // Assert
@@ -321,6 +349,14 @@ public class EventServiceImplTest {
         verify(eventRepository, atLeast(1)).findById(eventId);
     }
 
+    @Test
+    public void testGetEventByIdRemembersMissingEvent() {
+        UUID eventId = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+        when(eventRepository.findById(eventId)).thenReturn(Optional.empty());
+        assertThrows(EventNotFoundException.class, () -> eventService.getEventById(eventId));
+        assertTrue(missingIdCache.isMissing(MissingIdCache.eventKey(eventId)));
+    }
+
     @Test
     public void testDeleteEventSuccessfully() {
         // Arrange
@@ -337,7 +373,6 @@ public class EventServiceImplTest {
             doNothing().when(eventOwnershipService).validateEventOwnership(eventId, "test@example.com");
             when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
             doNothing().when(eventRepository).delete(event);
-            doNothing().when(sseService).sendEventUpdate(eventId, "DELETED", null);
             // Act
             MessageResponse<Void> result = eventService.deleteEvent(eventId);
             // Assert
@@ -347,7 +382,8 @@ public class EventServiceImplTest {
             verify(eventOwnershipService, atLeast(1)).validateEventOwnership(eventId, "test@example.com");
             verify(eventRepository, atLeast(1)).findById(eventId);
             verify(eventRepository, atLeast(1)).delete(event);
-            verify(sseService, atLeast(1)).sendEventUpdate(eventId, "DELETED", null);
+            verify(eventPublisher, atLeast(1)).publishEvent(argThat((Object published) -> published instanceof EventChanged changed
+                    && changed.eventId().equals(eventId) && EventChanged.DELETED.equals(changed.changeType()) && changed.event() == null));
         }
     }
 
@@ -391,7 +427,7 @@ public class EventServiceImplTest {
         EventResponse eventResponse2 = new EventResponse();
         eventResponse2.setEventId(event2.getId());
         eventResponse2.setTitle("Event 2");
-        when(eventRepository.findAll(pageable)).thenReturn(eventPage);
+        when(eventRepository.findAll(PageRequest.of(0, 10, EventServiceImpl.LISTING_ORDER))).thenReturn(eventPage);
         when(eventMapper.mapToEventResponse(event1)).thenReturn(eventResponse1);
         when(eventMapper.mapToEventResponse(event2)).thenReturn(eventResponse2);
         // Act
@@ -402,7 +438,8 @@ public class EventServiceImplTest {
         assertEquals("Events Retrieved Successfully", result.getMessage());
         assertNotNull(result.getData());
         assertThat(result.getData().getContent().size(), is(equalTo(2)));
-        verify(eventRepository, atLeast(1)).findAll(pageable);
+        verify(eventRepository, atLeast(1)).findAll(PageRequest.of(0, 10, EventServiceImpl.LISTING_ORDER));
+        verify(eventPageIndex).record(eq(EventPageIndex.pageKey(pageable)), argThat(ids -> ids.size() == 2));
     }
 
     @Test
@@ -410,7 +447,7 @@ public class EventServiceImplTest {
         // Arrange
         Pageable pageable = PageRequest.of(0, 10);
         Page<Event> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
-        when(eventRepository.findAll(pageable)).thenReturn(emptyPage);
+        when(eventRepository.findAll(PageRequest.of(0, 10, EventServiceImpl.LISTING_ORDER))).thenReturn(emptyPage);
         // Act
         MessageResponse<Page<EventResponse>> result = eventService.getAllEvents(pageable);
         // Assert
@@ -419,7 +456,7 @@ public class EventServiceImplTest {
         assertEquals("No events found", result.getMessage());
         assertNotNull(result.getData());
         assertThat(result.getData().getContent().size(), is(equalTo(0)));
-        verify(eventRepository, atLeast(1)).findAll(pageable);
+        verify(eventRepository, atLeast(1)).findAll(PageRequest.of(0, 10, EventServiceImpl.LISTING_ORDER));
     }
 
     @Test
@@ -492,8 +529,82 @@ public class EventServiceImplTest {
     @Test
     public void testEventServiceImplInstantiation() {
         // Act
-        EventServiceImpl service = new EventServiceImpl(eventRepository, eventMapper, sseService, eventOwnershipService);
+        EventServiceImpl service = new EventServiceImpl(eventRepository, eventMapper, eventOwnershipService, trendingService, eventPublisher, eventPageIndex, missingIdCache, eventSearchService);
         // Assert
         assertThat(service, is(notNullValue()));
     }
+
+    @Test
+    public void testGetTrendingEventsSkipsDeletedEvents() {
+        // Arrange
+        UUID liveId = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+        UUID deletedId = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+        Event event = new Event();
+        event.setId(liveId);
+        EventResponse eventResponse = new EventResponse();
+        eventResponse.setEventId(liveId);
+        List<TrendingEventResponse> trending = List.of(
+                TrendingEventResponse.builder().eventId(deletedId).score(9.0).build(),
+                TrendingEventResponse.builder().eventId(liveId).score(4.0).build());
+        when(trendingService.getTopEvents(10)).thenReturn(trending);
+        when(eventRepository.findAllById(any())).thenReturn(List.of(event));
+        when(eventMapper.mapToEventResponse(event)).thenReturn(eventResponse);
+        // Act
+        MessageResponse<List<TrendingEventResponse>> result = eventService.getTrendingEvents(10);
+        // Assert
+        assertEquals("Trending Events Retrieved Successfully", result.getMessage());
+        assertEquals(1, result.getData().size());
+        assertThat(result.getData().get(0).getEventId(), is(equalTo(liveId)));
+        assertThat(result.getData().get(0).getEvent(), is(equalTo(eventResponse)));
+    }
+
+    @Test
+    public void testSearchEventsKeepsRankingAndSkipsDeletedEvents() {
+        Event first = Event.builder().id(UUID.randomUUID()).build();
+        Event second = Event.builder().id(UUID.randomUUID()).build();
+        EventResponse firstResponse = new EventResponse();
+        EventResponse secondResponse = new EventResponse();
+        when(eventSearchService.search("jazz", 10)).thenReturn(List.of(
+                new SearchHit(first.getId(), 3.0), new SearchHit(UUID.randomUUID(), 2.0), new SearchHit(second.getId(), 1.0)));
+        when(eventRepository.findAllById(any())).thenReturn(List.of(second, first));
+        when(eventMapper.mapToEventResponse(first)).thenReturn(firstResponse);
+        when(eventMapper.mapToEventResponse(second)).thenReturn(secondResponse);
+        MessageResponse<List<EventSearchResponse>> result = eventService.searchEvents("jazz", 10);
+        assertEquals(2, result.getData().size());
+        assertThat(result.getData().get(0).getEvent(), is(equalTo(firstResponse)));
+        assertEquals(3.0, result.getData().get(0).getScore());
+        assertThat(result.getData().get(1).getEvent(), is(equalTo(secondResponse)));
+        verify(eventRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    public void testSearchEventsBoundsLimitAndSkipsLoadWithoutHits() {
+        when(eventSearchService.search("nothing", 50)).thenReturn(List.of());
+        MessageResponse<List<EventSearchResponse>> result = eventService.searchEvents("nothing", 500);
+        assertTrue(result.getData().isEmpty());
+        verify(eventRepository, never()).findAllById(any());
+    }
+
+    @Test
+    public void testGetEventsAfterReturnsCursorToNextPage() {
+        Event first = Event.builder().id(UUID.randomUUID()).startTime(LocalDateTime.of(2026, 5, 1, 10, 0)).build();
+        Event second = Event.builder().id(UUID.randomUUID()).startTime(LocalDateTime.of(2026, 5, 2, 10, 0)).build();
+        Event third = Event.builder().id(UUID.randomUUID()).startTime(LocalDateTime.of(2026, 5, 3, 10, 0)).build();
+        when(eventRepository.findFirstByStartTime(3)).thenReturn(List.of(first, second, third));
+        when(eventRepository.findAfterByStartTime(second.getStartTime(), second.getId(), 3)).thenReturn(List.of(third));
+        when(eventMapper.mapToEventResponse(any(Event.class))).thenReturn(new EventResponse());
+        MessageResponse<CursorPage<EventResponse>> firstPage = eventService.getEventsAfter(null, 2);
+        assertEquals(2, firstPage.getData().getSize());
+        assertTrue(firstPage.getData().isHasNext());
+        MessageResponse<CursorPage<EventResponse>> lastPage = eventService.getEventsAfter(firstPage.getData().getNextCursor(), 2);
+        assertEquals(1, lastPage.getData().getSize());
+        assertFalse(lastPage.getData().isHasNext());
+        assertNull(lastPage.getData().getNextCursor());
+        verify(eventRepository, never()).count();
+    }
+
+    @Test
+    public void testGetEventsAfterRejectsMalformedCursor() {
+        assertThrows(InvalidCursorException.class, () -> eventService.getEventsAfter("garbage", 10));
+    }
 }
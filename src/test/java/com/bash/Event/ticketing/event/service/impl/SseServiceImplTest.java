@@ -1,27 +1,52 @@
 package com.bash.Event.ticketing.event.service.impl;
 
+import com.bash.Event.ticketing.Exceptions.InvalidSubscriptionException;
+import com.bash.Event.ticketing.Exceptions.SseConnectionLimitException;
+import com.bash.Event.ticketing.config.SseProperties;
+import com.bash.Event.ticketing.event.service.SseService;
+import com.bash.Event.ticketing.event.sse.InProcessSseBroadcastBus;
+import com.bash.Event.ticketing.event.sse.SseBroadcast;
+import com.bash.Event.ticketing.event.sse.SseFrame;
+import com.bash.Event.ticketing.event.sse.SseMode;
+import com.bash.Event.ticketing.event.sse.SseSink;
+import com.bash.Event.ticketing.event.sse.SseTopics;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.atLeast;
 
@@ -36,13 +61,13 @@ public class SseServiceImplTest {
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
-        sseService = new SseServiceImpl(objectMapper);
+        sseService = new SseServiceImpl(objectMapper, Runnable::run, new SseProperties(), new InProcessSseBroadcastBus());
     }
 
     @Test
     public void testSubscribeSuccessfulConnection() throws IOException {
         String clientId = "test-client-123";
-        SseEmitter result = sseService.subscribe(clientId);
+        SseEmitter result = subscribe(sseService, clientId);
         assertNotNull(result);
         assertThat(result.getTimeout(), is(Long.MAX_VALUE));
     }
@@ -53,7 +78,7 @@ public class SseServiceImplTest {
         SseServiceImpl spySseService = spy(sseService);
         SseEmitter mockEmitter = mock(SseEmitter.class);
         doThrow(new IOException("Send failed")).when(mockEmitter).send(any(SseEmitter.SseEventBuilder.class));
-        SseEmitter result = spySseService.subscribe(clientId);
+        SseEmitter result = subscribe(spySseService, clientId);
         assertNotNull(result);
     }
 
@@ -64,9 +89,9 @@ public class SseServiceImplTest {
         Object data = "test data";
         String expectedJson = "{\"type\":\"event_update\",\"eventId\":\"123e4567-e89b-12d3-a456-426614174000\",\"eventType\":\"CREATED\",\"data\":\"test data\",\"timestamp\":1234567890}";
         String clientId = "test-client";
-        sseService.subscribe(clientId);
+        subscribe(sseService, clientId);
         doReturn(expectedJson).when(objectMapper).writeValueAsString(any(Map.class));
-        sseService.sendEventUpdate(eventId, eventType, data);
+        sseService.sendEventUpdate(eventId, "owner@example.com", eventType, data);
         verify(objectMapper, atLeast(1)).writeValueAsString(any(Map.class));
     }
 
@@ -77,9 +102,9 @@ public class SseServiceImplTest {
         Object data = "ticket data";
         String expectedJson = "{\"type\":\"ticket_update\",\"ticketId\":\"987f6543-e21c-34b5-a789-426614174111\",\"eventType\":\"UPDATED\",\"data\":\"ticket data\",\"timestamp\":1234567890}";
         String clientId = "test-client";
-        sseService.subscribe(clientId);
+        subscribe(sseService, clientId);
         doReturn(expectedJson).when(objectMapper).writeValueAsString(any(Map.class));
-        sseService.sendTicketUpdate(ticketId, eventType, data);
+        sseService.sendTicketUpdate(ticketId, UUID.fromString("123e4567-e89b-12d3-a456-426614174000"), "owner@example.com", eventType, data);
         verify(objectMapper, atLeast(1)).writeValueAsString(any(Map.class));
     }
 
@@ -88,7 +113,7 @@ public class SseServiceImplTest {
         Object data = "dashboard data";
         String expectedJson = "{\"type\":\"dashboard_update\",\"data\":\"dashboard data\",\"timestamp\":1234567890}";
         String clientId = "test-client";
-        sseService.subscribe(clientId);
+        subscribe(sseService, clientId);
         doReturn(expectedJson).when(objectMapper).writeValueAsString(any(Map.class));
         sseService.sendDashboardUpdate(data);
         verify(objectMapper, atLeast(1)).writeValueAsString(any(Map.class));
@@ -97,7 +122,7 @@ public class SseServiceImplTest {
     @Test
     public void testRemoveClientExists() {
         String clientId = "existing-client";
-        SseEmitter emitter = sseService.subscribe(clientId);
+        SseEmitter emitter = subscribe(sseService, clientId);
         assertNotNull(emitter);
         sseService.removeClient(clientId);
         sseService.removeClient(clientId);
@@ -115,10 +140,10 @@ public class SseServiceImplTest {
         String clientId = "test-client-broadcast";
         String eventType = "TEST_EVENT";
         Object data = "test broadcast data";
-        SseEmitter emitter = sseService.subscribe(clientId);
+        SseEmitter emitter = subscribe(sseService, clientId);
         assertNotNull(emitter);
         doReturn("test").when(objectMapper).writeValueAsString(any(Map.class));
-        sseService.sendEventUpdate(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"), eventType, data);
+        sseService.sendEventUpdate(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"), "owner@example.com", eventType, data);
         verify(objectMapper, atLeast(1)).writeValueAsString(any(Map.class));
     }
 
@@ -129,17 +154,17 @@ public class SseServiceImplTest {
         String eventType = "SUCCESS_EVENT";
         Object data = "success data";
         String expectedJson = "{\"type\":\"event_update\"}";
-        SseEmitter emitter = sseService.subscribe(clientId);
+        SseEmitter emitter = subscribe(sseService, clientId);
         assertNotNull(emitter);
         doReturn(expectedJson).when(objectMapper).writeValueAsString(any(Map.class));
-        sseService.sendEventUpdate(eventId, eventType, data);
+        sseService.sendEventUpdate(eventId, "owner@example.com", eventType, data);
         verify(objectMapper, atLeast(1)).writeValueAsString(any(Map.class));
     }
 
     @Test
     public void testConstructorInitialization() {
         ObjectMapper testMapper = new ObjectMapper();
-        SseServiceImpl service = new SseServiceImpl(testMapper);
+        SseServiceImpl service = new SseServiceImpl(testMapper, Runnable::run, new SseProperties(), new InProcessSseBroadcastBus());
         assertNotNull(service);
     }
 
@@ -150,9 +175,9 @@ public class SseServiceImplTest {
         Object data = "non-null data";
         String expectedJson = "{\"type\":\"event_update\",\"eventId\":\"123e4567-e89b-12d3-a456-426614174000\",\"eventType\":\"NULL_DATA_EVENT\",\"data\":null,\"timestamp\":1234567890}";
         String clientId = "test-client";
-        sseService.subscribe(clientId);
+        subscribe(sseService, clientId);
         doReturn(expectedJson).when(objectMapper).writeValueAsString(any(Map.class));
-        sseService.sendEventUpdate(eventId, eventType, data);
+        sseService.sendEventUpdate(eventId, "owner@example.com", eventType, data);
         verify(objectMapper, atLeast(1)).writeValueAsString(any(Map.class));
     }
 
@@ -163,9 +188,9 @@ public class SseServiceImplTest {
         Object data = "non-null data";
         String expectedJson = "{\"type\":\"ticket_update\",\"ticketId\":\"987f6543-e21c-34b5-a789-426614174111\",\"eventType\":\"NULL_TICKET_EVENT\",\"data\":null,\"timestamp\":1234567890}";
         String clientId = "test-client";
-        sseService.subscribe(clientId);
+        subscribe(sseService, clientId);
         doReturn(expectedJson).when(objectMapper).writeValueAsString(any(Map.class));
-        sseService.sendTicketUpdate(ticketId, eventType, data);
+        sseService.sendTicketUpdate(ticketId, UUID.fromString("123e4567-e89b-12d3-a456-426614174000"), "owner@example.com", eventType, data);
         verify(objectMapper, atLeast(1)).writeValueAsString(any(Map.class));
     }
 
@@ -174,7 +199,7 @@ public class SseServiceImplTest {
         Object data = "non-null data";
         String expectedJson = "{\"type\":\"dashboard_update\",\"data\":null,\"timestamp\":1234567890}";
         String clientId = "test-client";
-        sseService.subscribe(clientId);
+        subscribe(sseService, clientId);
         doReturn(expectedJson).when(objectMapper).writeValueAsString(any(Map.class));
         sseService.sendDashboardUpdate(data);
         verify(objectMapper, atLeast(1)).writeValueAsString(any(Map.class));
@@ -183,7 +208,7 @@ public class SseServiceImplTest {
     @Test
     public void testSubscribeEmitterCallbacks() throws IOException {
         String clientId = "callback-test-client";
-        SseEmitter emitter = sseService.subscribe(clientId);
+        SseEmitter emitter = subscribe(sseService, clientId);
         assertNotNull(emitter);
         emitter.complete();
         emitter.onTimeout(() -> {
@@ -196,8 +221,8 @@ public class SseServiceImplTest {
     public void testSubscribeMultipleClients() throws IOException {
         String clientId1 = "client-1";
         String clientId2 = "client-2";
-        SseEmitter emitter1 = sseService.subscribe(clientId1);
-        SseEmitter emitter2 = sseService.subscribe(clientId2);
+        SseEmitter emitter1 = subscribe(sseService, clientId1);
+        SseEmitter emitter2 = subscribe(sseService, clientId2);
         assertNotNull(emitter1);
         assertNotNull(emitter2);
         assertThat(emitter1.getTimeout(), is(Long.MAX_VALUE));
@@ -207,9 +232,9 @@ public class SseServiceImplTest {
     @Test
     public void testSubscribeReplaceExistingClient() throws IOException {
         String clientId = "replace-client";
-        SseEmitter emitter1 = sseService.subscribe(clientId);
+        SseEmitter emitter1 = subscribe(sseService, clientId);
         assertNotNull(emitter1);
-        SseEmitter emitter2 = sseService.subscribe(clientId);
+        SseEmitter emitter2 = subscribe(sseService, clientId);
         assertNotNull(emitter2);
         assertThat(emitter2.getTimeout(), is(Long.MAX_VALUE));
     }
@@ -217,7 +242,7 @@ public class SseServiceImplTest {
     @Test
     public void testSubscribeOnCompletionCallback() throws IOException {
         String clientId = "completion-test-client";
-        SseEmitter emitter = sseService.subscribe(clientId);
+        SseEmitter emitter = subscribe(sseService, clientId);
         assertNotNull(emitter);
         // Trigger onCompletion callback
         emitter.complete();
@@ -228,7 +253,7 @@ public class SseServiceImplTest {
     @Test
     public void testSubscribeOnTimeoutCallback() throws IOException {
         String clientId = "timeout-test-client";
-        SseEmitter emitter = sseService.subscribe(clientId);
+        SseEmitter emitter = subscribe(sseService, clientId);
         assertNotNull(emitter);
         // We can't easily trigger the actual timeout, but we can verify the callback is registered
         // The callback removes the client, so we verify this indirectly
@@ -238,7 +263,7 @@ public class SseServiceImplTest {
     @Test
     public void testSubscribeOnErrorCallback() throws IOException {
         String clientId = "error-test-client";
-        SseEmitter emitter = sseService.subscribe(clientId);
+        SseEmitter emitter = subscribe(sseService, clientId);
         assertNotNull(emitter);
         // We can't easily trigger the actual error callback, but we can verify the emitter is set up
         // The error callback would remove the client from the internal map
@@ -250,9 +275,332 @@ public class SseServiceImplTest {
         String clientId = "send-failure-client";
         // Create a spy to simulate IOException during initial send
         SseServiceImpl spyService = spy(sseService);
-        SseEmitter result = spyService.subscribe(clientId);
+        SseEmitter result = subscribe(spyService, clientId);
         // Even if initial send fails, emitter should still be returned
         assertNotNull(result);
         assertThat(result.getTimeout(), is(Long.MAX_VALUE));
     }
+
+    @Test
+    public void testBroadcastSerializesOncePerMessage() throws Exception {
+        subscribe(sseService, "client-a");
+        subscribe(sseService, "client-b");
+        subscribe(sseService, "client-c");
+        doReturn("{\"type\":\"dashboard_update\"}").when(objectMapper).writeValueAsString(any(Map.class));
+        sseService.sendDashboardUpdate("dashboard data");
+        verify(objectMapper, times(1)).writeValueAsString(any(Map.class));
+    }
+
+    @Test
+    public void testBroadcastSurvivesSerializationFailure() throws Exception {
+        subscribe(sseService, "client-a");
+        doThrow(new JsonProcessingException("boom") {
+        }).when(objectMapper).writeValueAsString(any(Map.class));
+        sseService.sendDashboardUpdate("dashboard data");
+        doReturn("{}").when(objectMapper).writeValueAsString(any(Map.class));
+        sseService.sendDashboardUpdate("dashboard data");
+        verify(objectMapper, times(2)).writeValueAsString(any(Map.class));
+    }
+
+    @Test
+    public void testFramesKeepPublishOrderWhenSenderTasksRunOutOfOrder() throws Exception {
+        List<Runnable> tasks = new ArrayList<>();
+        SseServiceImpl service = new SseServiceImpl(new ObjectMapper(), tasks::add, new SseProperties(), new InProcessSseBroadcastBus());
+        SseSink sink = mock(SseSink.class);
+        service.stream("ordered-client", List.of("dashboard"), SseMode.FULL, null, null, () -> sink);
+        service.sendDashboardUpdate("first");
+        service.sendDashboardUpdate("second");
+        Collections.reverse(tasks);
+        tasks.forEach(Runnable::run);
+        ArgumentCaptor<SseFrame> sent = ArgumentCaptor.forClass(SseFrame.class);
+        verify(sink, times(3)).send(sent.capture());
+        SseFrame first = sent.getAllValues().get(1);
+        SseFrame second = sent.getAllValues().get(2);
+        assertThat(new String(first.getBytes(), StandardCharsets.UTF_8).contains("\"first\""), is(true));
+        assertThat(first.getId() < second.getId(), is(true));
+    }
+
+    @Test
+    public void testMessagesRouteOnlyToSubscribedTopics() throws Exception {
+        UUID eventId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        UUID otherEventId = UUID.fromString("223e4567-e89b-12d3-a456-426614174001");
+        SseServiceImpl spyService = spy(sseService);
+        SseEmitter eventEmitter = mock(SseEmitter.class);
+        SseEmitter otherEmitter = mock(SseEmitter.class);
+        SseEmitter firehoseEmitter = mock(SseEmitter.class);
+        SseEmitter ownerEmitter = mock(SseEmitter.class);
+        doReturn(eventEmitter, otherEmitter, firehoseEmitter, ownerEmitter).when(spyService).createEmitter();
+        subscribe(spyService, "event-client", List.of("event:" + eventId));
+        subscribe(spyService, "other-client", List.of("event:" + otherEventId, "dashboard"));
+        subscribe(spyService, "firehose-client", null);
+        subscribe(spyService, "owner-client", List.of("owner:Owner@Example.com"));
+        doReturn("{}").when(objectMapper).writeValueAsString(any(Map.class));
+        spyService.sendTicketUpdate(UUID.randomUUID(), eventId, "owner@example.com", "PURCHASED", "ticket data");
+        verify(eventEmitter, times(2)).send(anySet());
+        verify(firehoseEmitter, times(2)).send(anySet());
+        verify(ownerEmitter, times(2)).send(anySet());
+        verify(otherEmitter, times(1)).send(anySet());
+        spyService.sendDashboardUpdate("dashboard data");
+        verify(otherEmitter, times(2)).send(anySet());
+        verify(eventEmitter, times(2)).send(anySet());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testResumeReplaysMissedFramesForSubscribedTopics() throws Exception {
+        UUID eventId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        SseServiceImpl spyService = spy(sseService);
+        SseEmitter firstEmitter = mock(SseEmitter.class);
+        SseEmitter resumedEmitter = mock(SseEmitter.class);
+        doReturn(firstEmitter, resumedEmitter).when(spyService).createEmitter();
+        doReturn("{}").when(objectMapper).writeValueAsString(any(Map.class));
+        subscribe(spyService, "first-client", null);
+        spyService.sendEventUpdate(eventId, "owner@example.com", "CREATED", "event data");
+        spyService.sendDashboardUpdate("dashboard data");
+        spyService.sendEventUpdate(eventId, "owner@example.com", "UPDATED", "event data");
+        ArgumentCaptor<Set<ResponseBodyEmitter.DataWithMediaType>> sent = ArgumentCaptor.forClass(Set.class);
+        verify(firstEmitter, times(4)).send(sent.capture());
+        String firstFrame = new String((byte[]) sent.getAllValues().get(1).iterator().next().getData(), StandardCharsets.UTF_8);
+        long firstId = Long.parseLong(firstFrame.substring(3, firstFrame.indexOf('\n')));
+        subscribe(spyService, "resumed-client", List.of("event:" + eventId), firstId);
+        ArgumentCaptor<Set<ResponseBodyEmitter.DataWithMediaType>> replayed = ArgumentCaptor.forClass(Set.class);
+        verify(resumedEmitter, times(2)).send(replayed.capture());
+        String replayedFrame = new String((byte[]) replayed.getAllValues().get(1).iterator().next().getData(), StandardCharsets.UTF_8);
+        assertThat(replayedFrame.startsWith("id:" + (firstId + 2) + "\nevent:event_update\n"), is(true));
+    }
+
+    @Test
+    public void testResumeIncludesFramesForAllTopicsPublishedBeforeTheTopicsRingExisted() throws Exception {
+        UUID eventId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        InProcessSseBroadcastBus bus = new InProcessSseBroadcastBus();
+        SseServiceImpl service = new SseServiceImpl(new ObjectMapper(), Runnable::run, new SseProperties(), bus);
+        SseSink dashboardSink = mock(SseSink.class);
+        service.stream("dashboard-client", List.of("dashboard"), SseMode.FULL, null, null, () -> dashboardSink);
+        service.sendDashboardUpdate("dashboard data");
+        ArgumentCaptor<SseFrame> dashboardFrames = ArgumentCaptor.forClass(SseFrame.class);
+        verify(dashboardSink, times(2)).send(dashboardFrames.capture());
+        long lastSeenId = dashboardFrames.getAllValues().get(1).getId();
+        bus.publish(SseBroadcast.resync(Set.of(SseTopics.ALL)));
+        service.sendEventUpdate(eventId, "owner@example.com", "UPDATED", "event data");
+        SseSink resumedSink = mock(SseSink.class);
+        service.stream("resumed-client", List.of("event:" + eventId), SseMode.FULL, lastSeenId, null, () -> resumedSink);
+        ArgumentCaptor<SseFrame> replayed = ArgumentCaptor.forClass(SseFrame.class);
+        verify(resumedSink, times(3)).send(replayed.capture());
+        assertThat(replayed.getAllValues().get(1).getEventName(), is("resync"));
+        assertThat(replayed.getAllValues().get(2).getEventName(), is("event_update"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testResumeFromUnknownIdSendsResync() throws Exception {
+        SseServiceImpl spyService = spy(sseService);
+        SseEmitter emitter = mock(SseEmitter.class);
+        doReturn(emitter).when(spyService).createEmitter();
+        subscribe(spyService, "stale-client", null, 42L);
+        ArgumentCaptor<Set<ResponseBodyEmitter.DataWithMediaType>> sent = ArgumentCaptor.forClass(Set.class);
+        verify(emitter, times(2)).send(sent.capture());
+        String frame = new String((byte[]) sent.getAllValues().get(1).iterator().next().getData(), StandardCharsets.UTF_8);
+        assertThat(frame.startsWith("event:resync\n"), is(true));
+    }
+
+    @Test
+    public void testSubscribeRejectsUnknownTopic() {
+        assertThrows(InvalidSubscriptionException.class, () -> subscribe(sseService, "bad-client", List.of("tickets")));
+        assertThrows(InvalidSubscriptionException.class, () -> subscribe(sseService, "bad-client", List.of("event:not-a-uuid")));
+    }
+
+    @Test
+    public void testHeartbeatPassPingsClientsAndReapsFailedWrites() throws Exception {
+        AtomicLong now = new AtomicLong(1_000);
+        SseServiceImpl service = spy(new SseServiceImpl(objectMapper, Runnable::run, new SseProperties(), new InProcessSseBroadcastBus(), now::get));
+        SseEmitter emitter = mock(SseEmitter.class);
+        doReturn(emitter).when(service).createEmitter();
+        subscribe(service, "live-client");
+        now.set(20_000);
+        service.sendHeartbeats();
+        verify(emitter, times(1)).send(SseFrame.HEARTBEAT.getEmitterData());
+        assertEquals(1, service.getConnectionCount());
+        doThrow(new IOException("gone")).when(emitter).send(anySet());
+        now.set(40_000);
+        service.sendHeartbeats();
+        assertEquals(0, service.getConnectionCount());
+    }
+
+    @Test
+    public void testHeartbeatPassReapsClientsStuckPastIdleTimeout() {
+        AtomicLong now = new AtomicLong(1_000);
+        SseProperties properties = new SseProperties();
+        properties.setIdleTimeout(Duration.ofSeconds(30));
+        // Drains never run, as if the sender were blocked on a dead socket
+        SseServiceImpl service = new SseServiceImpl(objectMapper, task -> {
+        }, properties, new InProcessSseBroadcastBus(), now::get);
+        subscribe(service, "stuck-client");
+        now.set(20_000);
+        service.sendHeartbeats();
+        assertEquals(1, service.getConnectionCount());
+        now.set(40_000);
+        service.sendHeartbeats();
+        assertEquals(0, service.getConnectionCount());
+    }
+
+    @Test
+    public void testStreamTransportDeliversFramesAndUnregistersOnClose() throws Exception {
+        SseSink sink = mock(SseSink.class);
+        ArgumentCaptor<Runnable> onClose = ArgumentCaptor.forClass(Runnable.class);
+        UUID eventId = UUID.randomUUID();
+        doReturn("{\"type\":\"event_update\"}").when(objectMapper).writeValueAsString(any(Map.class));
+        sseService.stream("stream-client", List.of("event:" + eventId), SseMode.FULL, null, "10.0.0.1", () -> sink);
+        verify(sink).onClose(onClose.capture());
+        sseService.sendEventUpdate(eventId, "owner@example.com", "UPDATED", Map.of());
+        ArgumentCaptor<SseFrame> sent = ArgumentCaptor.forClass(SseFrame.class);
+        verify(sink, times(2)).send(sent.capture());
+        assertThat(sent.getAllValues().get(1).getEventName(), is("event_update"));
+        assertEquals(1, sseService.getConnectionCount());
+        onClose.getValue().run();
+        assertEquals(0, sseService.getConnectionCount());
+    }
+
+    @Test
+    public void testStreamTransportIsNotOpenedWhenLimitIsReached() {
+        SseProperties properties = new SseProperties();
+        properties.setMaxConnectionsPerIp(1);
+        SseServiceImpl service = new SseServiceImpl(objectMapper, Runnable::run, properties, new InProcessSseBroadcastBus());
+        SseSink sink = mock(SseSink.class);
+        service.stream("client-1", null, SseMode.FULL, null, "10.0.0.1", () -> sink);
+        assertThrows(SseConnectionLimitException.class, () -> service.stream("client-2", null, SseMode.FULL, null, "10.0.0.1", () -> {
+            throw new AssertionError("sink opened past the limit");
+        }));
+        assertEquals(1, service.getConnectionCount());
+    }
+
+    @Test
+    public void testFailedConnectGivesBackItsSlot() {
+        SseProperties properties = new SseProperties();
+        properties.setMaxConnectionsPerIp(1);
+        SseServiceImpl service = new SseServiceImpl(objectMapper, Runnable::run, properties, new InProcessSseBroadcastBus());
+        SseSink brokenSink = mock(SseSink.class);
+        doThrow(new IllegalStateException("response already committed")).when(brokenSink).onClose(any());
+        assertThrows(IllegalStateException.class, () -> service.stream("client-1", null, SseMode.FULL, null, "10.0.0.1", () -> brokenSink));
+        verify(brokenSink).complete();
+        service.stream("client-2", null, SseMode.FULL, null, "10.0.0.1", () -> mock(SseSink.class));
+        assertEquals(1, service.getConnectionCount());
+    }
+
+    @Test
+    public void testConnectionCapsRejectNewClients() {
+        SseProperties properties = new SseProperties();
+        properties.setMaxConnections(3);
+        properties.setMaxConnectionsPerIp(2);
+        SseServiceImpl service = new SseServiceImpl(objectMapper, Runnable::run, properties, new InProcessSseBroadcastBus());
+        subscribe(service, "client-1", null, null, "10.0.0.1");
+        subscribe(service, "client-2", null, null, "10.0.0.1");
+        assertThrows(SseConnectionLimitException.class, () -> subscribe(service, "client-3", null, null, "10.0.0.1"));
+        subscribe(service, "client-2", null, null, "10.0.0.1");
+        subscribe(service, "client-3", null, null, "10.0.0.2");
+        assertThrows(SseConnectionLimitException.class, () -> subscribe(service, "client-4", null, null, "10.0.0.3"));
+        service.removeClient("client-1");
+        subscribe(service, "client-4", null, null, "10.0.0.1");
+        assertEquals(3, service.getConnectionCount());
+    }
+
+    @Test
+    public void testBroadcastReachesClientsOnEveryNodeSharingTheBus() throws Exception {
+        InProcessSseBroadcastBus bus = new InProcessSseBroadcastBus();
+        SseServiceImpl nodeA = spy(new SseServiceImpl(objectMapper, Runnable::run, new SseProperties(), bus));
+        SseServiceImpl nodeB = spy(new SseServiceImpl(objectMapper, Runnable::run, new SseProperties(), bus));
+        SseEmitter emitterA = mock(SseEmitter.class);
+        SseEmitter emitterB = mock(SseEmitter.class);
+        doReturn(emitterA).when(nodeA).createEmitter();
+        doReturn(emitterB).when(nodeB).createEmitter();
+        subscribe(nodeA, "client-a", List.of("dashboard"));
+        subscribe(nodeB, "client-b", List.of("dashboard"));
+        doReturn("{}").when(objectMapper).writeValueAsString(any(Map.class));
+        nodeA.sendDashboardUpdate("dashboard data");
+        verify(objectMapper, times(1)).writeValueAsString(any(Map.class));
+        verify(emitterA, times(2)).send(anySet());
+        verify(emitterB, times(2)).send(anySet());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testDeltaModeClientReceivesSnapshotThenChangedFieldsOnly() throws Exception {
+        UUID eventId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        UUID ticketId = UUID.fromString("987f6543-e21c-34b5-a789-426614174111");
+        SseServiceImpl service = spy(new SseServiceImpl(new ObjectMapper(), Runnable::run, new SseProperties(), new InProcessSseBroadcastBus()));
+        SseEmitter emitter = mock(SseEmitter.class);
+        doReturn(emitter).when(service).createEmitter();
+        service.subscribe("delta-client", List.of("event:" + eventId), SseMode.DELTA, null, null);
+        service.sendTicketUpdate(ticketId, eventId, "owner@example.com", "PURCHASED", Map.of("ticketType", "VIP", "quantitySold", 1));
+        service.sendTicketUpdate(ticketId, eventId, "owner@example.com", "PURCHASED", Map.of("ticketType", "VIP", "quantitySold", 2));
+        ArgumentCaptor<Set<ResponseBodyEmitter.DataWithMediaType>> sent = ArgumentCaptor.forClass(Set.class);
+        verify(emitter, times(3)).send(sent.capture());
+        String snapshot = new String((byte[]) sent.getAllValues().get(1).iterator().next().getData(), StandardCharsets.UTF_8);
+        String delta = new String((byte[]) sent.getAllValues().get(2).iterator().next().getData(), StandardCharsets.UTF_8);
+        assertThat(snapshot.contains("event:ticket_snapshot\n"), is(true));
+        assertThat(delta.contains("event:ticket_delta\n"), is(true));
+        assertThat(delta.contains("\"quantitySold\":2"), is(true));
+        assertThat(delta.contains("ticketType"), is(false));
+    }
+
+    @Test
+    public void testUpdatesAreDeltaEncodedOnlyWhileADeltaClientIsConnected() throws Exception {
+        UUID eventId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        UUID ticketId = UUID.fromString("987f6543-e21c-34b5-a789-426614174111");
+        SseServiceImpl service = new SseServiceImpl(new ObjectMapper(), Runnable::run, new SseProperties(), new InProcessSseBroadcastBus());
+        SseSink fullSink = mock(SseSink.class);
+        service.stream("full-client", List.of("event:" + eventId), SseMode.FULL, null, null, () -> fullSink);
+        service.sendTicketUpdate(ticketId, eventId, "owner@example.com", "PURCHASED", Map.of("quantitySold", 1));
+        service.stream("delta-client", List.of("event:" + eventId), SseMode.DELTA, null, null, () -> mock(SseSink.class));
+        service.sendTicketUpdate(ticketId, eventId, "owner@example.com", "PURCHASED", Map.of("quantitySold", 2));
+        ArgumentCaptor<SseFrame> sent = ArgumentCaptor.forClass(SseFrame.class);
+        verify(fullSink, times(3)).send(sent.capture());
+        assertNull(sent.getAllValues().get(1).getSnapshot());
+        assertNotNull(sent.getAllValues().get(2).getSnapshot());
+        assertNull(sent.getAllValues().get(2).getDelta());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testBatchingCollapsesTicketUpdatesIntoOneFramePerTick() throws Exception {
+        UUID eventId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        UUID ticketId = UUID.fromString("987f6543-e21c-34b5-a789-426614174111");
+        UUID otherTicketId = UUID.fromString("987f6543-e21c-34b5-a789-426614174222");
+        SseProperties properties = new SseProperties();
+        properties.getBatching().setEnabled(true);
+        SseServiceImpl service = spy(new SseServiceImpl(new ObjectMapper(), Runnable::run, properties, new InProcessSseBroadcastBus()));
+        SseEmitter emitter = mock(SseEmitter.class);
+        doReturn(emitter).when(service).createEmitter();
+        subscribe(service, "batch-client", List.of("event:" + eventId));
+        service.sendTicketUpdate(ticketId, eventId, "owner@example.com", "PURCHASED", Map.of("quantitySold", 1));
+        service.sendTicketUpdate(otherTicketId, eventId, "owner@example.com", "PURCHASED", Map.of("quantitySold", 5));
+        service.sendTicketUpdate(ticketId, eventId, "owner@example.com", "PURCHASED", Map.of("quantitySold", 2));
+        verify(emitter, times(1)).send(anySet());
+        service.flushBatches();
+        service.flushBatches();
+        ArgumentCaptor<Set<ResponseBodyEmitter.DataWithMediaType>> sent = ArgumentCaptor.forClass(Set.class);
+        verify(emitter, times(2)).send(sent.capture());
+        String batch = new String((byte[]) sent.getAllValues().get(1).iterator().next().getData(), StandardCharsets.UTF_8);
+        assertThat(batch.contains("event:ticket_batch\n"), is(true));
+        assertThat(batch.indexOf(otherTicketId.toString()) < batch.indexOf(ticketId.toString()), is(true));
+        assertThat(batch.contains("\"quantitySold\":1"), is(false));
+        assertThat(batch.contains("\"quantitySold\":2"), is(true));
+    }
+
+    // Fills in what the controller would for a plain full-mode subscription
+    private static SseEmitter subscribe(SseService service, String clientId, List<String> topics, Long lastEventId,
+                                        String remoteAddress) {
+        return service.subscribe(clientId, topics, SseMode.FULL, lastEventId, remoteAddress);
+    }
+
+    private static SseEmitter subscribe(SseService service, String clientId, List<String> topics, Long lastEventId) {
+        return subscribe(service, clientId, topics, lastEventId, null);
+    }
+
+    private static SseEmitter subscribe(SseService service, String clientId, List<String> topics) {
+        return subscribe(service, clientId, topics, null, null);
+    }
+
+    private static SseEmitter subscribe(SseService service, String clientId) {
+        return subscribe(service, clientId, null, null, null);
+    }
 }
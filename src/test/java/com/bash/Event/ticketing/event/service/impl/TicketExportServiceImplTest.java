@@ -0,0 +1,110 @@
+package com.bash.Event.ticketing.event.service.impl;
+
+import com.bash.Event.ticketing.Exceptions.EventNotFoundException;
+import com.bash.Event.ticketing.event.enums.AttendanceStatus;
+import com.bash.Event.ticketing.event.repository.EventRepository;
+import com.bash.Event.ticketing.event.service.EventOwnershipService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Timeout(10)
+public class TicketExportServiceImplTest {
+
+    private static final UUID EVENT_ID = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventOwnershipService eventOwnershipService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TicketExportServiceImpl exportService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        exportService = new TicketExportServiceImpl(eventRepository, eventOwnershipService, transactionManager, 100);
+    }
+
+    @Test
+    void testExportReturnsBodyForOwner() {
+        try (MockedStatic<SecurityContextHolder> mockedSecurityContextHolder = mockAuthentication("owner@example.com")) {
+            when(eventRepository.existsById(eq(EVENT_ID))).thenReturn(true);
+            assertNotNull(exportService.exportEventCsv(EVENT_ID));
+            verify(eventOwnershipService).validateEventOwnership(eq(EVENT_ID), eq("owner@example.com"));
+        }
+    }
+
+    @Test
+    void testExportUnknownEvent() {
+        try (MockedStatic<SecurityContextHolder> mockedSecurityContextHolder = mockAuthentication("owner@example.com")) {
+            when(eventRepository.existsById(eq(EVENT_ID))).thenReturn(false);
+            assertThrows(EventNotFoundException.class, () -> exportService.exportEventCsv(EVENT_ID));
+            verify(eventOwnershipService, never()).validateEventOwnership(eq(EVENT_ID), eq("owner@example.com"));
+        }
+    }
+
+    @Test
+    void testExportRejectsNonOwner() {
+        try (MockedStatic<SecurityContextHolder> mockedSecurityContextHolder = mockAuthentication("other@example.com")) {
+            when(eventRepository.existsById(eq(EVENT_ID))).thenReturn(true);
+            doThrow(new AccessDeniedException("denied")).when(eventOwnershipService)
+                    .validateEventOwnership(eq(EVENT_ID), eq("other@example.com"));
+            assertThrows(AccessDeniedException.class, () -> exportService.exportEventCsv(EVENT_ID));
+        }
+    }
+
+    @Test
+    void testWriteRowFormatsValues() throws Exception {
+        StringWriter writer = new StringWriter();
+        Object[] row = {UUID.fromString("223e4567-e89b-12d3-a456-426614174001"), "VIP", 100.0, 40, 10,
+                AttendanceStatus.NOT_ATTENDED, "buyer@example.com", LocalDateTime.of(2025, 1, 2, 3, 4, 5), null};
+        TicketExportServiceImpl.writeRow(writer, row);
+        assertEquals("223e4567-e89b-12d3-a456-426614174001,VIP,100.0,40,10,NOT_ATTENDED,buyer@example.com,2025-01-02T03:04:05,\n",
+                writer.toString());
+    }
+
+    @Test
+    void testEscapeQuotesSeparatorsAndFormulas() {
+        assertEquals("\"Early, bird\"", TicketExportServiceImpl.escape("Early, bird"));
+        assertEquals("\"say \"\"hi\"\"\"", TicketExportServiceImpl.escape("say \"hi\""));
+        assertEquals("'=SUM(A1)", TicketExportServiceImpl.escape("=SUM(A1)"));
+        assertEquals("-5", TicketExportServiceImpl.escape(-5));
+        assertEquals("", TicketExportServiceImpl.escape(null));
+    }
+
+    private MockedStatic<SecurityContextHolder> mockAuthentication(String email) {
+        MockedStatic<SecurityContextHolder> mockedSecurityContextHolder = mockStatic(SecurityContextHolder.class);
+        SecurityContext securityContext = mock(SecurityContext.class);
+        Authentication authentication = mock(Authentication.class);
+        mockedSecurityContextHolder.when(SecurityContextHolder::getContext).thenReturn(securityContext);
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        when(authentication.getName()).thenReturn(email);
+        return mockedSecurityContextHolder;
+    }
+}
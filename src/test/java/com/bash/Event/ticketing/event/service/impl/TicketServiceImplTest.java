@@ -1,5 +1,10 @@
 package com.bash.Event.ticketing.event.service.impl;
 
+import com.bash.Event.ticketing.Exceptions.TicketNotFoundException;
+import com.bash.Event.ticketing.cache.MissingIdCache;
+import com.bash.Event.ticketing.event.domain.TicketCreated;
+import com.bash.Event.ticketing.event.domain.TicketPurchased;
+import com.bash.Event.ticketing.event.domain.TicketScanned;
 import com.bash.Event.ticketing.event.dto.request.PurchaseRequest;
 import com.bash.Event.ticketing.event.dto.request.TicketRequest;
 import com.bash.Event.ticketing.event.dto.response.DashboardInsights;
@@ -11,16 +16,17 @@ import com.bash.Event.ticketing.event.model.Ticket;
 import com.bash.Event.ticketing.event.repository.EventRepository;
 import com.bash.Event.ticketing.event.repository.TicketRepository;
 import com.bash.Event.ticketing.event.service.EventOwnershipService;
-import com.bash.Event.ticketing.event.service.SseService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -32,15 +38,16 @@ import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.atLeast;
@@ -55,17 +62,21 @@ public class TicketServiceImplTest {
     private EventRepository eventRepository;
 
     @Mock
-    private SseService sseService;
+    private EventOwnershipService eventOwnershipService;
 
     @Mock
-    private EventOwnershipService eventOwnershipService;
+    private ApplicationEventPublisher eventPublisher;
+
+    private MissingIdCache missingIdCache;
 
     private TicketServiceImpl ticketService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        ticketService = spy(new TicketServiceImpl(ticketRepository, eventRepository, sseService, eventOwnershipService));
+        missingIdCache = new MissingIdCache(100, Duration.ofMinutes(10));
+        ticketService = spy(new TicketServiceImpl(ticketRepository, eventRepository, eventOwnershipService, eventPublisher,
+                missingIdCache));
     }
 
     @Test
@@ -95,7 +106,6 @@ public class TicketServiceImplTest {
             doNothing().when(eventOwnershipService).validateEventOwnership(eq(eventId), eq(userEmail));
             when(eventRepository.findById(eq(eventId))).thenReturn(Optional.of(mockEvent));
             when(ticketRepository.save(any(Ticket.class))).thenReturn(mockTicket);
-            doNothing().when(sseService).sendTicketUpdate(any(UUID.class), anyString(), any(TicketResponse.class));
             MessageResponse<TicketResponse> result = ticketService.createTicket(eventId, request);
             assertNotNull(result);
             assertEquals("success", result.getStatus());
@@ -106,7 +116,7 @@ public class TicketServiceImplTest {
             verify(eventOwnershipService, atLeast(1)).validateEventOwnership(eq(eventId), eq(userEmail));
             verify(eventRepository, atLeast(1)).findById(eq(eventId));
             verify(ticketRepository, atLeast(1)).save(any(Ticket.class));
-            verify(sseService, atLeast(1)).sendTicketUpdate(any(UUID.class), eq("CREATED"), any(TicketResponse.class));
+            verify(eventPublisher, atLeast(1)).publishEvent(argThat((Object event) -> event instanceof TicketCreated created && created.eventId().equals(eventId)));
         }
     }
 
@@ -190,11 +200,6 @@ public class TicketServiceImplTest {
         when(mockTicket.getAttendanceStatus()).thenReturn(AttendanceStatus.NOT_ATTENDED);
         when(ticketRepository.findById(eq(ticketId))).thenReturn(Optional.of(mockTicket));
         when(ticketRepository.save(any(Ticket.class))).thenReturn(mockTicket);
-        doNothing().when(sseService).sendTicketUpdate(any(UUID.class), anyString(), any(TicketResponse.class));
-        doNothing().when(sseService).sendDashboardUpdate(any());
-        DashboardInsights mockInsights = mock(DashboardInsights.class);
-        MessageResponse<DashboardInsights> mockInsightsResponse = MessageResponse.success("success", mockInsights);
-        doReturn(mockInsightsResponse).when(ticketService).getDashboardInsights();
         MessageResponse<TicketResponse> result = ticketService.purchaseTicket(eventId, ticketId, request);
         assertNotNull(result);
         assertEquals("success", result.getStatus());
@@ -202,8 +207,8 @@ public class TicketServiceImplTest {
         assertNotNull(result.getData());
         verify(ticketRepository, atLeast(1)).findById(eq(ticketId));
         verify(ticketRepository, atLeast(1)).save(any(Ticket.class));
-        verify(sseService, atLeast(1)).sendTicketUpdate(eq(ticketId), eq("PURCHASED"), any(TicketResponse.class));
-        verify(sseService, atLeast(1)).sendDashboardUpdate(any());
+        verify(eventPublisher, atLeast(1)).publishEvent(argThat((Object event) -> event instanceof TicketPurchased purchased
+                && purchased.ticketId().equals(ticketId) && purchased.eventId().equals(eventId) && purchased.quantity() == 2));
     }
 
     @Test
@@ -218,6 +223,17 @@ public class TicketServiceImplTest {
         verify(ticketRepository, atLeast(1)).findById(eq(ticketId));
     }
 
+    @Test
+    void testMissingTicketIsRemembered() {
+        UUID eventId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        UUID ticketId = UUID.fromString("223e4567-e89b-12d3-a456-426614174001");
+        PurchaseRequest request = new PurchaseRequest();
+        request.setQuantity(1);
+        when(ticketRepository.findById(eq(ticketId))).thenReturn(Optional.empty());
+        assertThrows(TicketNotFoundException.class, () -> ticketService.purchaseTicket(eventId, ticketId, request));
+        assertTrue(missingIdCache.isMissing(MissingIdCache.ticketKey(ticketId)));
+    }
+
     @Test
     void testPurchaseTicketWrongEvent() {
         UUID eventId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
@@ -279,11 +295,6 @@ public class TicketServiceImplTest {
             when(ticketRepository.findById(eq(ticketId))).thenReturn(Optional.of(mockTicket));
             doNothing().when(eventOwnershipService).validateEventOwnership(eq(eventId), eq(userEmail));
             when(ticketRepository.save(any(Ticket.class))).thenReturn(mockTicket);
-            doNothing().when(sseService).sendTicketUpdate(any(UUID.class), anyString(), any(TicketResponse.class));
-            doNothing().when(sseService).sendDashboardUpdate(any());
-            DashboardInsights mockInsights = mock(DashboardInsights.class);
-            MessageResponse<DashboardInsights> mockInsightsResponse = MessageResponse.success("success", mockInsights);
-            doReturn(mockInsightsResponse).when(ticketService).getDashboardInsights();
             MessageResponse<TicketResponse> result = ticketService.scanTicket(ticketId);
             assertNotNull(result);
             assertEquals("success", result.getStatus());
@@ -292,8 +303,7 @@ public class TicketServiceImplTest {
             verify(ticketRepository, atLeast(1)).findById(eq(ticketId));
             verify(eventOwnershipService, atLeast(1)).validateEventOwnership(eq(eventId), eq(userEmail));
             verify(ticketRepository, atLeast(1)).save(any(Ticket.class));
-            verify(sseService, atLeast(1)).sendTicketUpdate(eq(ticketId), eq("SCANNED"), any(TicketResponse.class));
-            verify(sseService, atLeast(1)).sendDashboardUpdate(any());
+            verify(eventPublisher, atLeast(1)).publishEvent(argThat((Object event) -> event instanceof TicketScanned scanned && scanned.ticketId().equals(ticketId)));
         }
     }
 
@@ -0,0 +1,88 @@
+package com.bash.Event.ticketing.event.service.impl;
+
+import com.bash.Event.ticketing.event.dto.response.TrendingEventResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Timeout(10)
+public class TrendingServiceImplTest {
+
+    private static final UUID EVENT_A = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+    private static final UUID EVENT_B = UUID.fromString("223e4567-e89b-12d3-a456-426614174001");
+    private static final UUID EVENT_C = UUID.fromString("323e4567-e89b-12d3-a456-426614174002");
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+
+    private TrendingServiceImpl trendingService;
+
+    @BeforeEach
+    public void setUp() {
+        trendingService = new TrendingServiceImpl(2, Duration.ofMinutes(1), 1.0, 5.0, clock::get);
+    }
+
+    @Test
+    public void testPurchasesOutweighViews() {
+        trendingService.recordView(EVENT_A);
+        trendingService.recordView(EVENT_A);
+        trendingService.recordPurchase(EVENT_B, 1);
+        List<TrendingEventResponse> top = trendingService.getTopEvents(10);
+        assertThat(top.stream().map(TrendingEventResponse::getEventId).toList(), contains(EVENT_B, EVENT_A));
+        assertThat(top.get(0).getScore(), is(closeTo(5.0, 0.0001)));
+    }
+
+    @Test
+    public void testScoresDecayWithHalfLife() {
+        trendingService.recordPurchase(EVENT_A, 2);
+        clock.addAndGet(Duration.ofMinutes(1).toMillis());
+        assertThat(trendingService.getTopEvents(1).get(0).getScore(), is(closeTo(5.0, 0.0001)));
+    }
+
+    @Test
+    public void testRecentActivityOvertakesOlderActivity() {
+        trendingService.recordPurchase(EVENT_A, 2);
+        clock.addAndGet(Duration.ofMinutes(5).toMillis());
+        trendingService.recordPurchase(EVENT_B, 1);
+        assertEquals(EVENT_B, trendingService.getTopEvents(1).get(0).getEventId());
+    }
+
+    @Test
+    public void testCapacityEvictsLowestCounter() {
+        trendingService.recordPurchase(EVENT_A, 3);
+        trendingService.recordView(EVENT_B);
+        trendingService.recordView(EVENT_C);
+        List<TrendingEventResponse> top = trendingService.getTopEvents(10);
+        assertEquals(2, top.size());
+        assertThat(top.stream().map(TrendingEventResponse::getEventId).toList(), contains(EVENT_A, EVENT_C));
+        // Space-Saving inherits the evicted minimum
+        assertThat(top.get(1).getScore(), is(closeTo(2.0, 0.0001)));
+    }
+
+    @Test
+    public void testRescaleKeepsRanking() {
+        trendingService.recordPurchase(EVENT_A, 1);
+        trendingService.recordView(EVENT_B);
+        clock.addAndGet(Duration.ofHours(2).toMillis());
+        trendingService.recordView(EVENT_B);
+        List<TrendingEventResponse> top = trendingService.getTopEvents(10);
+        assertEquals(EVENT_B, top.get(0).getEventId());
+        assertTrue(Double.isFinite(top.get(0).getScore()));
+    }
+
+    @Test
+    public void testRemoveEvent() {
+        trendingService.recordView(EVENT_A);
+        trendingService.removeEvent(EVENT_A);
+        assertTrue(trendingService.getTopEvents(10).isEmpty());
+    }
+}
@@ -0,0 +1,47 @@
+package com.bash.Event.ticketing.event.sse;
+
+import com.bash.Event.ticketing.config.SseProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Timeout(10)
+public class PostgresSseBroadcastBusTest {
+
+    private DataSource dataSource;
+    private PostgresSseBroadcastBus bus;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = mock(DataSource.class);
+        bus = new PostgresSseBroadcastBus(dataSource, mock(DataSource.class), new ObjectMapper(), new SseProperties());
+    }
+
+    @Test
+    void testOversizedPayloadBecomesResync() {
+        SseBroadcast broadcast = new SseBroadcast("event_update", Set.of("dashboard"), "\"" + "x".repeat(9_000) + "\"");
+        SseBroadcast replacement = bus.oversized(broadcast);
+        assertTrue(replacement.isResync());
+        assertEquals(Set.of("dashboard"), replacement.topics());
+    }
+
+    @Test
+    void testFailedPublishStillReachesLocalClients() throws Exception {
+        List<SseBroadcast> delivered = new ArrayList<>();
+        bus.addListener(delivered::add);
+        when(dataSource.getConnection()).thenThrow(new SQLException("pool exhausted"));
+        SseBroadcast broadcast = new SseBroadcast("ticket_update", Set.of("event:1"), "{}");
+        bus.publish(broadcast);
+        assertEquals(List.of(broadcast), delivered);
+    }
+}
@@ -0,0 +1,38 @@
+package com.bash.Event.ticketing.event.sse;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Timeout(10)
+public class ServletSseSinkTest {
+
+    @Test
+    void testCompressedStreamHoldsADeflaterUntilComplete() {
+        DeflaterPool pool = new DeflaterPool(6, 1, 1);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServletSseSink sink = ServletSseSink.start(gzipRequest(true), response, pool);
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+        assertEquals(1, pool.getActiveCount());
+        sink.complete();
+        assertEquals(0, pool.getActiveCount());
+    }
+
+    @Test
+    void testFailedAsyncStartDoesNotTakeADeflater() {
+        DeflaterPool pool = new DeflaterPool(6, 1, 1);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThrows(IllegalStateException.class, () -> ServletSseSink.start(gzipRequest(false), response, pool));
+        assertEquals(0, pool.getActiveCount());
+    }
+
+    private static MockHttpServletRequest gzipRequest(boolean asyncSupported) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/sse/subscribe");
+        request.addHeader("Accept-Encoding", "gzip");
+        request.setAsyncSupported(asyncSupported);
+        return request;
+    }
+}
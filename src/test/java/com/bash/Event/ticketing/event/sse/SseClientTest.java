@@ -0,0 +1,137 @@
+package com.bash.Event.ticketing.event.sse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@Timeout(10)
+public class SseClientTest {
+
+    private SseEmitter emitter;
+
+    private SseClient client;
+
+    @BeforeEach
+    void setUp() {
+        emitter = mock(SseEmitter.class);
+        client = new SseClient("client-1", new EmitterSseSink(emitter), Set.of(SseTopics.ALL), SseMode.FULL, 2, null, System::currentTimeMillis);
+    }
+
+    @Test
+    void testOverflowDegradesToResyncThenEvicts() {
+        SseFrame frame = SseFrame.event("ticket_update", "{}");
+        assertEquals(SseClient.OfferResult.QUEUED, client.offer(frame));
+        assertEquals(SseClient.OfferResult.QUEUED, client.offer(frame));
+        assertEquals(SseClient.OfferResult.RESYNC, client.offer(frame));
+        assertEquals(1, client.getQueuedFrames());
+        assertEquals(SseClient.OfferResult.QUEUED, client.offer(frame));
+        assertEquals(SseClient.OfferResult.OVERFLOWED, client.offer(frame));
+    }
+
+    @Test
+    void testDrainSendsQueuedFramesAndClearsResync() throws IOException {
+        SseFrame frame = SseFrame.event("ticket_update", "{}");
+        client.offer(frame);
+        client.offer(frame);
+        client.offer(frame);
+        assertTrue(client.tryStartDrain());
+        assertTrue(client.drain());
+        verify(emitter, times(1)).send(SseFrame.RESYNC.getEmitterData());
+        assertEquals(0, client.getQueuedFrames());
+        // Caught up again, so the next overflow degrades instead of evicting
+        client.offer(frame);
+        client.offer(frame);
+        assertEquals(SseClient.OfferResult.RESYNC, client.offer(frame));
+    }
+
+    @Test
+    void testOnlyOneDrainerAtATime() {
+        assertTrue(client.tryStartDrain());
+        assertFalse(client.tryStartDrain());
+        client.drain();
+        assertTrue(client.tryStartDrain());
+    }
+
+    @Test
+    void testDrainReportsFailedConnection() throws IOException {
+        doThrow(new IOException("broken pipe")).when(emitter).send(anySet());
+        client.offer(SseFrame.event("ticket_update", "{}"));
+        client.tryStartDrain();
+        assertFalse(client.drain());
+        assertEquals(0, client.getQueuedFrames());
+    }
+
+    @Test
+    void testCompleteDuringSendWaitsForTheWriteToReturn() throws IOException {
+        SseSink sink = mock(SseSink.class);
+        SseClient streamClient = new SseClient("client-3", sink, Set.of(SseTopics.ALL), SseMode.FULL, 4, null, System::currentTimeMillis);
+        doAnswer(invocation -> {
+            streamClient.complete();
+            verify(sink, never()).complete();
+            return null;
+        }).when(sink).send(any());
+        streamClient.offer(SseFrame.event("ticket_update", "{}"));
+        streamClient.offer(SseFrame.event("ticket_update", "{}"));
+        assertTrue(streamClient.tryStartDrain());
+        assertTrue(streamClient.drain());
+        verify(sink, times(1)).send(any());
+        verify(sink, times(1)).complete();
+        assertFalse(streamClient.tryStartDrain());
+    }
+
+    @Test
+    void testCompleteWhileIdleEndsTheStreamAtOnce() {
+        SseSink sink = mock(SseSink.class);
+        SseClient streamClient = new SseClient("client-4", sink, Set.of(SseTopics.ALL), SseMode.FULL, 4, null, System::currentTimeMillis);
+        streamClient.complete();
+        streamClient.complete();
+        verify(sink, times(1)).complete();
+    }
+
+    @Test
+    void testFrameEnvelope() {
+        SseFrame frame = SseFrame.event("ticket_update", "line1\nline2");
+        assertEquals("event:ticket_update\ndata:line1\ndata:line2\n\n", new String(frame.getBytes()));
+    }
+
+    @Test
+    void testHeartbeatOnlyQueuedOnQuietConnection() throws IOException {
+        assertTrue(client.offerHeartbeat());
+        assertFalse(client.offerHeartbeat());
+        assertTrue(client.tryStartDrain());
+        assertTrue(client.drain());
+        verify(emitter, times(1)).send(SseFrame.HEARTBEAT.getEmitterData());
+        assertTrue(client.offerHeartbeat());
+    }
+
+    @Test
+    void testDeltaClientGetsSnapshotThenDeltasUntilResync() throws IOException {
+        SseClient deltaClient = new SseClient("client-2", new EmitterSseSink(emitter), Set.of(SseTopics.ALL), SseMode.DELTA, 8, null, System::currentTimeMillis);
+        SseFrame snapshot = SseFrame.event(10, "ticket_snapshot", "{}");
+        SseFrame delta = SseFrame.event(11, "ticket_delta", "{}");
+        SseFrame first = SseFrame.event(10, "ticket_update", "{}").withVariants("ticket:1", 0, snapshot, null);
+        SseFrame second = SseFrame.event(11, "ticket_update", "{}").withVariants("ticket:1", 10, SseFrame.event(11, "ticket_snapshot", "{}"), delta);
+        deltaClient.offer(first);
+        deltaClient.offer(second);
+        deltaClient.offer(SseFrame.RESYNC);
+        deltaClient.offer(SseFrame.event(12, "ticket_update", "{}").withVariants("ticket:1", 11, snapshot, delta));
+        assertTrue(deltaClient.tryStartDrain());
+        assertTrue(deltaClient.drain());
+        verify(emitter, times(2)).send(snapshot.getEmitterData());
+        verify(emitter, times(1)).send(delta.getEmitterData());
+    }
+}
@@ -0,0 +1,73 @@
+package com.bash.Event.ticketing.event.sse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import java.nio.charset.StandardCharsets;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Timeout(10)
+public class SseDeltaEncoderTest {
+
+    private static final String TICKET_ID = "223e4567-e89b-12d3-a456-426614174001";
+
+    private SseDeltaEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        encoder = new SseDeltaEncoder(100);
+    }
+
+    @Test
+    void testFirstUpdateHasSnapshotOnly() {
+        SseFrame frame = encoder.encode(10, "ticket_update", ticketUpdate(10, 40));
+        assertEquals("ticket:" + TICKET_ID, frame.getEntityKey());
+        assertNull(frame.getDelta());
+        assertTrue(text(frame.getSnapshot()).contains("\"type\":\"ticket_snapshot\",\"id\":\"" + TICKET_ID + "\",\"v\":10,\"data\":{"));
+    }
+
+    @Test
+    void testSecondUpdateCarriesOnlyChangedFields() {
+        encoder.encode(10, "ticket_update", ticketUpdate(10, 40));
+        SseFrame frame = encoder.encode(11, "ticket_update", ticketUpdate(12, 38));
+        assertEquals(10, frame.getBaseVersion());
+        assertEquals("id:11\nevent:ticket_delta\ndata:{\"type\":\"ticket_delta\",\"id\":\"" + TICKET_ID
+                + "\",\"v\":11,\"quantityAvailable\":38,\"quantitySold\":12}\n\n", text(frame.getDelta()));
+    }
+
+    @Test
+    void testDeletionGoesOutInFullAndForgetsState() {
+        encoder.encode(10, "event_update", "{\"eventId\":\"e1\",\"data\":{\"title\":\"Gig\"}}");
+        SseFrame deleted = encoder.encode(11, "event_update", "{\"eventId\":\"e1\",\"data\":null}");
+        assertNull(deleted.getSnapshot());
+        SseFrame recreated = encoder.encode(12, "event_update", "{\"eventId\":\"e1\",\"data\":{\"title\":\"Gig\"}}");
+        assertNull(recreated.getDelta());
+    }
+
+    @Test
+    void testResetStartsOverFromASnapshot() {
+        encoder.encode(10, "ticket_update", ticketUpdate(10, 40));
+        encoder.reset();
+        SseFrame frame = encoder.encode(12, "ticket_update", ticketUpdate(12, 38));
+        assertNull(frame.getDelta());
+        assertTrue(text(frame.getSnapshot()).contains("\"v\":12"));
+    }
+
+    @Test
+    void testOtherMessagesPassThrough() {
+        SseFrame frame = encoder.encode(10, "dashboard_update", "{\"data\":{}}");
+        assertNull(frame.getEntityKey());
+        assertNull(frame.getSnapshot());
+    }
+
+    private static String ticketUpdate(int sold, int available) {
+        return "{\"type\":\"ticket_update\",\"ticketId\":\"" + TICKET_ID + "\",\"data\":{\"id\":\"" + TICKET_ID
+                + "\",\"ticketType\":\"VIP\",\"quantityAvailable\":" + available + ",\"quantitySold\":" + sold + "}}";
+    }
+
+    private static String text(SseFrame frame) {
+        return new String(frame.getBytes(), StandardCharsets.UTF_8);
+    }
+}
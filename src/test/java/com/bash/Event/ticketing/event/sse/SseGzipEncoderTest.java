@@ -0,0 +1,93 @@
+package com.bash.Event.ticketing.event.sse;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Timeout(10)
+public class SseGzipEncoderTest {
+
+    @Test
+    void testStreamDecodesToTheOriginalFrames() throws IOException {
+        DeflaterPool pool = new DeflaterPool(6, 1, 1);
+        SseGzipEncoder encoder = new SseGzipEncoder(pool, pool.acquire());
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        stream.writeBytes(SseGzipEncoder.header());
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            String frame = frame(i);
+            expected.append(frame);
+            stream.writeBytes(encoder.encode(frame.getBytes(StandardCharsets.UTF_8)));
+        }
+        stream.writeBytes(encoder.finish());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(stream.toByteArray()))) {
+            assertEquals(expected.toString(), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertEquals(0, pool.getActiveCount());
+    }
+
+    @Test
+    void testEachFrameIsDecodableAsSoonAsItIsFlushed() throws IOException {
+        DeflaterPool pool = new DeflaterPool(6, 1, 1);
+        SseGzipEncoder encoder = new SseGzipEncoder(pool, pool.acquire());
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        stream.writeBytes(SseGzipEncoder.header());
+        stream.writeBytes(encoder.encode(frame(1).getBytes(StandardCharsets.UTF_8)));
+        GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(stream.toByteArray()));
+        byte[] decoded = in.readNBytes(frame(1).length());
+        assertEquals(frame(1), new String(decoded, StandardCharsets.UTF_8));
+        encoder.close();
+    }
+
+    @Test
+    void testRepeatedFramesShrinkAgainstTheSharedWindow() {
+        DeflaterPool pool = new DeflaterPool(6, 1, 1);
+        SseGzipEncoder encoder = new SseGzipEncoder(pool, pool.acquire());
+        int first = encoder.encode(frame(1).getBytes(StandardCharsets.UTF_8)).length;
+        int second = encoder.encode(frame(2).getBytes(StandardCharsets.UTF_8)).length;
+        assertTrue(second < first / 3, "second frame " + second + " bytes, first " + first);
+        encoder.close();
+    }
+
+    @Test
+    void testPoolCapsActiveDeflatersAndReusesReleasedOnes() {
+        DeflaterPool pool = new DeflaterPool(6, 2, 1);
+        Deflater first = pool.acquire();
+        Deflater second = pool.acquire();
+        assertNotNull(second);
+        assertNull(pool.acquire());
+        pool.release(first);
+        pool.release(second);
+        assertEquals(1, pool.getIdleCount());
+        assertSame(first, pool.acquire());
+    }
+
+    @Test
+    void testClosedEncoderRejectsFrames() {
+        DeflaterPool pool = new DeflaterPool(6, 1, 1);
+        SseGzipEncoder encoder = new SseGzipEncoder(pool, pool.acquire());
+        encoder.close();
+        encoder.close();
+        assertEquals(0, pool.getActiveCount());
+        assertEquals(0, encoder.finish().length);
+        assertThrows(IllegalStateException.class, () -> encoder.encode(new byte[]{1}));
+    }
+
+    private static String frame(int id) {
+        return "id:" + (1_700_000_000_000L + id) + "\nevent:ticket_update\ndata:{\"type\":\"ticket_update\","
+                + "\"ticketId\":\"223e4567-e89b-12d3-a456-426614174001\",\"eventId\":\"123e4567-e89b-12d3-a456-426614174000\","
+                + "\"eventType\":\"PURCHASED\",\"data\":{\"ticketType\":\"VIP\",\"quantitySold\":" + id
+                + ",\"quantityAvailable\":" + (500 - id) + "}}\n\n";
+    }
+}
@@ -0,0 +1,30 @@
+package com.bash.Event.ticketing.event.util;
+
+import com.bash.Event.ticketing.Exceptions.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Timeout(10)
+public class EventCursorTest {
+
+    @Test
+    void testCursorRoundTrips() {
+        EventCursor cursor = new EventCursor(LocalDateTime.of(2026, 3, 1, 18, 30, 15, 123_000_000), UUID.randomUUID());
+        assertEquals(cursor, EventCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void testMalformedCursorsAreRejected() {
+        String noSeparator = Base64.getUrlEncoder().encodeToString("2026-03-01T18:30".getBytes(StandardCharsets.UTF_8));
+        String badId = Base64.getUrlEncoder().encodeToString("2026-03-01T18:30|nope".getBytes(StandardCharsets.UTF_8));
+        assertThrows(InvalidCursorException.class, () -> EventCursor.decode("not base64!"));
+        assertThrows(InvalidCursorException.class, () -> EventCursor.decode(noSeparator));
+        assertThrows(InvalidCursorException.class, () -> EventCursor.decode(badId));
+    }
+}
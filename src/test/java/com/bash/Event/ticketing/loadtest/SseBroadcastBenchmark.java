@@ -0,0 +1,147 @@
+package com.bash.Event.ticketing.loadtest;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.bash.Event.ticketing.config.SseProperties;
+import com.bash.Event.ticketing.event.service.impl.SseServiceImpl;
+import com.bash.Event.ticketing.event.sse.InProcessSseBroadcastBus;
+import com.bash.Event.ticketing.event.sse.SseFrame;
+import com.bash.Event.ticketing.event.sse.SseMode;
+import com.bash.Event.ticketing.event.sse.SseSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Manual benchmark, not part of the test suite: CPU time and heap allocated per dashboard
+ * broadcast as the number of subscribers grows, against a baseline that serializes the message
+ * once per subscriber. Drains run inline on the publishing thread into sinks that only count
+ * frames, so the numbers cover serialization, fan-out and framing but no socket writes.
+ *
+ * <pre>
+ * mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     com.bash.Event.ticketing.loadtest.SseBroadcastBenchmark -Dsse.max-clients=10000 -Dsse.deliveries=2000000
+ * </pre>
+ */
+public class SseBroadcastBenchmark {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) throws Exception {
+        int maxClients = Integer.getInteger("sse.max-clients", 10_000);
+        int deliveries = Integer.getInteger("sse.deliveries", 2_000_000);
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+        Map<String, Object> insights = insights();
+        ObjectMapper objectMapper = new ObjectMapper();
+        System.out.printf("payload %d bytes of JSON%n", objectMapper.writeValueAsBytes(insights).length);
+        // First pass only warms the JIT
+        measure(objectMapper, insights, Math.min(maxClients, 1_000), 200);
+        baseline(objectMapper, insights, Math.min(maxClients, 1_000), 200);
+        System.out.println("clients  broadcasts   us/broadcast   KB alloc/broadcast   bytes alloc/client"
+                + "   baseline us   baseline KB alloc");
+        for (int clients = 1; clients <= maxClients; clients *= 10) {
+            int broadcasts = Math.max(50, deliveries / clients);
+            long[] shared = measure(objectMapper, insights, clients, broadcasts);
+            long[] perClient = baseline(objectMapper, insights, clients, broadcasts);
+            System.out.printf("%7d %11d %14.1f %20.1f %20.0f %13.1f %19.1f%n", clients, broadcasts,
+                    shared[0] / 1e3 / broadcasts, shared[1] / 1024.0 / broadcasts,
+                    (double) shared[1] / broadcasts / clients,
+                    perClient[0] / 1e3 / broadcasts, perClient[1] / 1024.0 / broadcasts);
+        }
+    }
+
+    // CPU nanoseconds and bytes allocated by the publishing thread for `broadcasts` dashboard
+    // updates through SseServiceImpl, after the clients have connected
+    private static long[] measure(ObjectMapper objectMapper, Map<String, Object> insights, int clients, int broadcasts) {
+        SseProperties properties = new SseProperties();
+        properties.setMaxConnections(Integer.MAX_VALUE);
+        SseServiceImpl service = new SseServiceImpl(objectMapper, Runnable::run, properties, new InProcessSseBroadcastBus());
+        List<CountingSink> sinks = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            CountingSink sink = new CountingSink();
+            sinks.add(sink);
+            service.stream("benchmark-" + i, List.of("dashboard"), SseMode.FULL, null, null, () -> sink);
+        }
+        long cpu = THREADS.getCurrentThreadCpuTime();
+        long allocated = THREADS.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < broadcasts; i++) {
+            service.sendDashboardUpdate(insights);
+        }
+        long[] result = {THREADS.getCurrentThreadCpuTime() - cpu, THREADS.getCurrentThreadAllocatedBytes() - allocated};
+        long expected = (long) clients * (broadcasts + 1);
+        long frames = sinks.stream().mapToLong(sink -> sink.frames).sum();
+        if (frames != expected) {
+            throw new IllegalStateException("Expected " + expected + " frames but sinks received " + frames);
+        }
+        return result;
+    }
+
+    // The same broadcasts if every subscriber had its message serialized and framed separately
+    private static long[] baseline(ObjectMapper objectMapper, Map<String, Object> insights, int clients, int broadcasts)
+            throws Exception {
+        CountingSink sink = new CountingSink();
+        long cpu = THREADS.getCurrentThreadCpuTime();
+        long allocated = THREADS.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < broadcasts; i++) {
+            Map<String, Object> message = message(insights);
+            for (int c = 0; c < clients; c++) {
+                sink.send(SseFrame.event(i, "dashboard_update", objectMapper.writeValueAsString(message)));
+            }
+        }
+        return new long[]{THREADS.getCurrentThreadCpuTime() - cpu, THREADS.getCurrentThreadAllocatedBytes() - allocated};
+    }
+
+    // Matches the envelope SseServiceImpl.sendDashboardUpdate builds
+    private static Map<String, Object> message(Map<String, Object> insights) {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("type", "dashboard_update");
+        message.put("data", insights);
+        message.put("timestamp", System.currentTimeMillis());
+        return message;
+    }
+
+    private static Map<String, Object> insights() {
+        Map<String, Object> insights = new LinkedHashMap<>();
+        insights.put("totalEvents", 42);
+        insights.put("totalTicketsSold", 18_250);
+        insights.put("totalRevenue", 912_345.50);
+        insights.put("attendanceRate", 0.83);
+        List<Map<String, Object>> topEvents = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Map<String, Object> event = new LinkedHashMap<>();
+            event.put("eventId", UUID.randomUUID());
+            event.put("title", "Benchmark event " + i);
+            event.put("ticketsSold", 1_000 + i * 250);
+            event.put("revenue", 45_000.0 + i * 1_250);
+            topEvents.add(event);
+        }
+        insights.put("topEvents", topEvents);
+        return insights;
+    }
+
+    private static final class CountingSink implements SseSink {
+
+        private long frames;
+
+        @Override
+        public void send(SseFrame frame) {
+            frames++;
+        }
+
+        @Override
+        public void complete() {
+        }
+
+        @Override
+        public void onClose(Runnable callback) {
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.bash.Event.ticketing.loadtest;
+
+import com.bash.Event.ticketing.event.sse.DeflaterPool;
+import com.bash.Event.ticketing.event.sse.SseGzipEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Manual benchmark, not part of the test suite: CPU time per frame against bytes saved for
+ * gzip SSE streams at each deflate level, using a mix of ticket, event and dashboard frames.
+ *
+ * <pre>
+ * java -cp target/test-classes:target/classes com.bash.Event.ticketing.loadtest.SseCompressionBenchmark \
+ *     -Dsse.frames=200000 -Dsse.tickets=50
+ * </pre>
+ */
+public class SseCompressionBenchmark {
+
+    public static void main(String[] args) {
+        int frames = Integer.getInteger("sse.frames", 200_000);
+        int tickets = Integer.getInteger("sse.tickets", 50);
+        byte[][] workload = workload(frames, tickets);
+        long rawBytes = 0;
+        for (byte[] frame : workload) {
+            rawBytes += frame.length;
+        }
+        System.out.printf("%d frames, %d raw bytes, %.0f bytes per frame%n", frames, rawBytes, (double) rawBytes / frames);
+        // First pass only warms the JIT
+        run(workload, 6);
+        System.out.println("level  compressed   ratio   ns/frame   ns/byte-saved");
+        for (int level = 1; level <= 9; level++) {
+            long[] result = run(workload, level);
+            long compressed = result[0];
+            long nanos = result[1];
+            System.out.printf("%5d %11d %7.1f%% %10.0f %15.2f%n", level, compressed, 100.0 * compressed / rawBytes,
+                    (double) nanos / frames, (double) nanos / Math.max(1, rawBytes - compressed));
+        }
+    }
+
+    private static long[] run(byte[][] workload, int level) {
+        DeflaterPool pool = new DeflaterPool(level, 1, 1);
+        SseGzipEncoder encoder = new SseGzipEncoder(pool, pool.acquire());
+        long compressed = SseGzipEncoder.header().length;
+        long started = System.nanoTime();
+        for (byte[] frame : workload) {
+            compressed += encoder.encode(frame).length;
+        }
+        compressed += encoder.finish().length;
+        return new long[]{compressed, System.nanoTime() - started};
+    }
+
+    private static byte[][] workload(int frames, int tickets) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        UUID eventId = UUID.randomUUID();
+        UUID[] ticketIds = new UUID[tickets];
+        for (int i = 0; i < tickets; i++) {
+            ticketIds[i] = UUID.randomUUID();
+        }
+        long id = System.currentTimeMillis() * 1000;
+        byte[][] workload = new byte[frames][];
+        for (int i = 0; i < frames; i++) {
+            String data;
+            String event;
+            int kind = random.nextInt(10);
+            if (kind < 7) {
+                event = "ticket_update";
+                data = "{\"type\":\"ticket_update\",\"ticketId\":\"" + ticketIds[random.nextInt(tickets)]
+                        + "\",\"eventId\":\"" + eventId + "\",\"eventType\":\"PURCHASED\",\"data\":{\"ticketType\":\"GENERAL\","
+                        + "\"price\":45.00,\"quantitySold\":" + random.nextInt(1000) + ",\"quantityAvailable\":"
+                        + random.nextInt(1000) + "},\"timestamp\":" + System.currentTimeMillis() + "}";
+            } else if (kind < 9) {
+                event = "dashboard_update";
+                data = "{\"type\":\"dashboard_update\",\"data\":{\"totalEvents\":" + random.nextInt(100)
+                        + ",\"ticketsSold\":" + random.nextInt(100_000) + ",\"revenue\":" + random.nextInt(1_000_000)
+                        + "},\"timestamp\":" + System.currentTimeMillis() + "}";
+            } else {
+                event = "event_update";
+                data = "{\"type\":\"event_update\",\"eventId\":\"" + eventId + "\",\"eventType\":\"UPDATED\","
+                        + "\"data\":{\"title\":\"Summer Festival\",\"location\":\"Accra\",\"status\":\"PUBLISHED\"},"
+                        + "\"timestamp\":" + System.currentTimeMillis() + "}";
+            }
+            workload[i] = ("id:" + (id + i) + "\nevent:" + event + "\ndata:" + data + "\n\n").getBytes(StandardCharsets.UTF_8);
+        }
+        return workload;
+    }
+}
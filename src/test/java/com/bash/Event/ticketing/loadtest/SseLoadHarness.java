@@ -0,0 +1,256 @@
+package com.bash.Event.ticketing.loadtest;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Manual load harness for the /api/v1/sse/stream transport, not part of the test suite.
+ * Opens N idle subscribers on one event topic from a single selector thread, reports the server's
+ * heap growth per connection, then buys tickets and measures how long each purchase takes to reach
+ * every subscriber as a ticket_update frame.
+ *
+ * <p>Run against a server started with app.sse.virtual-threads=true, app.sse.max-connections and
+ * app.sse.max-connections-per-ip above N, SERVER_MAX_CONNECTIONS above N, and the metrics actuator
+ * endpoint exposed. Past roughly 28k connections from one source address, raise the client's
+ * ephemeral port range and file descriptor limit first.
+ *
+ * <pre>
+ * java -cp target/test-classes com.bash.Event.ticketing.loadtest.SseLoadHarness \
+ *     -Dsse.base-url=http://localhost:8080 -Dsse.connections=100000 \
+ *     -Dsse.event-id=... -Dsse.ticket-id=... -Dsse.rounds=10 -Dsse.token=...
+ * </pre>
+ */
+public class SseLoadHarness {
+
+    private static final byte[] TICKET_UPDATE = "event:ticket_update".getBytes(StandardCharsets.US_ASCII);
+    private static final Pattern METRIC_VALUE = Pattern.compile("\"value\"\\s*:\\s*([0-9.Ee+-]+)");
+
+    private final URI baseUri;
+    private final int connections;
+    private final String eventId;
+    private final String ticketId;
+    private final int rounds;
+    private final String token;
+    private final HttpClient http = HttpClient.newHttpClient();
+    private final Selector selector;
+    private final List<Subscriber> subscribers = new ArrayList<>();
+
+    public SseLoadHarness(URI baseUri, int connections, String eventId, String ticketId, int rounds, String token)
+            throws IOException {
+        this.baseUri = baseUri;
+        this.connections = connections;
+        this.eventId = eventId;
+        this.ticketId = ticketId;
+        this.rounds = rounds;
+        this.token = token;
+        this.selector = Selector.open();
+    }
+
+    public static void main(String[] args) throws Exception {
+        SseLoadHarness harness = new SseLoadHarness(
+                URI.create(System.getProperty("sse.base-url", "http://localhost:8080")),
+                Integer.getInteger("sse.connections", 1000),
+                require("sse.event-id"),
+                require("sse.ticket-id"),
+                Integer.getInteger("sse.rounds", 10),
+                System.getProperty("sse.token"));
+        harness.run();
+    }
+
+    public void run() throws Exception {
+        System.gc();
+        Double heapBefore = heapUsed();
+        Double connectionsBefore = metric("sse.connections");
+        long started = System.nanoTime();
+        openAll();
+        awaitServerConnections(connectionsBefore == null ? connections : connectionsBefore + connections);
+        System.out.printf("Opened %d subscribers in %d ms%n", connections, (System.nanoTime() - started) / 1_000_000);
+
+        Double heapAfter = heapUsed();
+        if (heapBefore != null && heapAfter != null) {
+            System.out.printf("Server heap: %.1f MB -> %.1f MB, ~%.1f KB per connection%n",
+                    heapBefore / 1e6, heapAfter / 1e6, (heapAfter - heapBefore) / 1024 / connections);
+        } else {
+            System.out.println("Server heap not available: expose the metrics actuator endpoint or pass -Dsse.token");
+        }
+
+        for (int round = 1; round <= rounds; round++) {
+            long[] latencies = broadcastRound();
+            Arrays.sort(latencies);
+            System.out.printf("Round %d: delivered %d/%d, p50 %.1f ms, p99 %.1f ms, max %.1f ms%n",
+                    round, latencies.length, connections, percentile(latencies, 0.50),
+                    percentile(latencies, 0.99), percentile(latencies, 1.0));
+        }
+        closeAll();
+    }
+
+    private void openAll() throws IOException {
+        InetSocketAddress address = new InetSocketAddress(baseUri.getHost(), baseUri.getPort());
+        for (int i = 0; i < connections; i++) {
+            SocketChannel channel = SocketChannel.open(address);
+            channel.configureBlocking(false);
+            String request = "GET /api/v1/sse/stream?clientId=load-" + i + "&topics=event:" + eventId + " HTTP/1.1\r\n"
+                    + "Host: " + baseUri.getHost() + "\r\n"
+                    + "Accept: text/event-stream\r\n\r\n";
+            ByteBuffer out = ByteBuffer.wrap(request.getBytes(StandardCharsets.US_ASCII));
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+            Subscriber subscriber = new Subscriber(channel);
+            channel.register(selector, SelectionKey.OP_READ, subscriber);
+            subscribers.add(subscriber);
+            if (i % 1000 == 999) {
+                // Drain the connection frames as we go so server send buffers never back up
+                poll(0);
+            }
+        }
+    }
+
+    private void awaitServerConnections(double expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 120_000;
+        while (System.currentTimeMillis() < deadline) {
+            poll(200);
+            Double live = metric("sse.connections");
+            if (live == null || live >= expected) {
+                return;
+            }
+        }
+        System.out.println("Timed out waiting for the server to report all connections");
+    }
+
+    private long[] broadcastRound() throws Exception {
+        subscribers.forEach(subscriber -> subscriber.receivedAt = 0);
+        HttpRequest purchase = HttpRequest.newBuilder(baseUri.resolve(
+                        "/api/v1/events/" + eventId + "/tickets/" + ticketId + "/purchase"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"purchaserEmail\":\"load-test@example.com\",\"quantity\":1}"))
+                .build();
+        long sentAt = System.nanoTime();
+        HttpResponse<String> response = http.send(purchase, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException("Purchase failed with " + response.statusCode() + ": " + response.body());
+        }
+        long deadline = System.currentTimeMillis() + 30_000;
+        int delivered = 0;
+        while (delivered < connections && System.currentTimeMillis() < deadline) {
+            delivered += poll(100);
+        }
+        long[] latencies = new long[delivered];
+        int i = 0;
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.receivedAt != 0 && i < delivered) {
+                latencies[i++] = subscriber.receivedAt - sentAt;
+            }
+        }
+        return Arrays.copyOf(latencies, i);
+    }
+
+    // Reads whatever is ready and returns how many subscribers saw their first ticket_update this round
+    private int poll(long timeoutMillis) throws IOException {
+        if (selector.select(timeoutMillis) == 0) {
+            return 0;
+        }
+        int delivered = 0;
+        long now = System.nanoTime();
+        Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+        while (keys.hasNext()) {
+            SelectionKey key = keys.next();
+            keys.remove();
+            Subscriber subscriber = (Subscriber) key.attachment();
+            if (subscriber.read() && subscriber.receivedAt == 0) {
+                subscriber.receivedAt = now;
+                delivered++;
+            }
+        }
+        return delivered;
+    }
+
+    private void closeAll() throws IOException {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.channel.close();
+        }
+        selector.close();
+    }
+
+    private Double heapUsed() throws Exception {
+        return metric("jvm.memory.used?tag=area:heap");
+    }
+
+    private Double metric(String name) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(baseUri.resolve("/actuator/metrics/" + name)).GET();
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        HttpResponse<String> response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            return null;
+        }
+        Matcher matcher = METRIC_VALUE.matcher(response.body());
+        return matcher.find() ? Double.parseDouble(matcher.group(1)) : null;
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private static String require(String property) {
+        String value = System.getProperty(property);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing -D" + property);
+        }
+        return value;
+    }
+
+    private static final class Subscriber {
+        private final SocketChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(4096);
+        // Bytes of TICKET_UPDATE matched so far, carried across reads since frames can be split
+        private int matched;
+        private long receivedAt;
+
+        private Subscriber(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        private boolean read() throws IOException {
+            boolean seen = false;
+            int n;
+            while ((n = channel.read(buffer)) > 0) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    byte b = buffer.get();
+                    matched = b == TICKET_UPDATE[matched] ? matched + 1 : (b == TICKET_UPDATE[0] ? 1 : 0);
+                    if (matched == TICKET_UPDATE.length) {
+                        seen = true;
+                        matched = 0;
+                    }
+                }
+                buffer.clear();
+            }
+            if (n < 0) {
+                channel.close();
+            }
+            return seen;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.bash.Event.ticketing.loadtest;
+
+import com.bash.Event.ticketing.EventTicketingApplication;
+import com.bash.Event.ticketing.event.model.Event;
+import com.bash.Event.ticketing.event.repository.EventRepository;
+import com.bash.Event.ticketing.event.service.TicketExportService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Manual benchmark, not part of the test suite: streams the CSV export of one event with a large
+ * number of tickets and samples live heap (after a full GC) as rows go out, to show that memory
+ * stays flat however many rows the export has. Runs the real TicketExportService against a
+ * file-backed H2 database by default, so the table itself is not on the heap; pass
+ * -Dspring.datasource.url (and username/password) to run it against PostgreSQL instead.
+ *
+ * <pre>
+ * mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -Xmx256m -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     com.bash.Event.ticketing.loadtest.TicketExportBenchmark -Dexport.rows=1000000
+ * </pre>
+ */
+public class TicketExportBenchmark {
+
+    private static final String OWNER = "export-benchmark@example.com";
+    private static final int INSERT_BATCH = 10_000;
+
+    public static void main(String[] args) throws Exception {
+        int rows = Integer.getInteger("export.rows", 1_000_000);
+        int samples = Integer.getInteger("export.samples", 10);
+        Path database = Files.createTempDirectory("export-benchmark").resolve("db");
+
+        // System properties outrank application.yml, and -D on the command line still wins
+        defaultProperty("spring.devtools.restart.enabled", "false");
+        defaultProperty("server.port", "0");
+        defaultProperty("spring.datasource.url", "jdbc:h2:file:" + database + ";LAZY_QUERY_EXECUTION=1");
+        defaultProperty("logging.level.root", "WARN");
+        defaultProperty("app.cache.warmup.enabled", "false");
+        defaultProperty("JWT_SECRET", "export-benchmark-secret-export-benchmark-secret");
+        defaultProperty("JWT_EXPIRATION_MS", "3600000");
+        defaultProperty("JWT_REFRESH_EXPIRATION_MS", "3600000");
+        defaultProperty("JWT_ISSUER", "export-benchmark");
+        defaultProperty("BASE_URL", "http://localhost");
+        defaultProperty("MAIL_HOST", "localhost");
+        defaultProperty("MAIL_PORT", "25");
+        defaultProperty("MAIL_USERNAME", "");
+        defaultProperty("MAIL_PASSWORD", "");
+        defaultProperty("CONNECTION_TIMEOUT", "1000");
+        defaultProperty("READ_TIMEOUT", "1000");
+        defaultProperty("WRITE_TIMEOUT", "1000");
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(EventTicketingApplication.class)
+                .run(args)) {
+            UUID eventId = seed(context, rows);
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                    OWNER, null, List.of(new SimpleGrantedAuthority("ROLE_EVENT_OWNER"))));
+            TicketExportService exportService = context.getBean(TicketExportService.class);
+
+            MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+            long before = liveHeap(memory);
+            HeapSamplingStream sink = new HeapSamplingStream(memory, Math.max(1, rows / samples));
+            long started = System.nanoTime();
+            StreamingResponseBody body = exportService.exportEventCsv(eventId);
+            body.writeTo(sink);
+            long nanos = System.nanoTime() - started;
+
+            System.out.printf("%d rows, %d bytes in %d ms (%.0f rows/s; timing includes the heap samples' GCs)%n",
+                    sink.rows - 1, sink.bytes, nanos / 1_000_000, (sink.rows - 1) / (nanos / 1e9));
+            System.out.printf("live heap before export: %.1f MB%n", before / 1e6);
+            System.out.println("    lines   live heap MB   delta MB");
+            for (long[] sample : sink.samples) {
+                System.out.printf("%9d %14.1f %10.1f%n", sample[0], sample[1] / 1e6, (sample[1] - before) / 1e6);
+            }
+        }
+    }
+
+    private static void defaultProperty(String key, String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
+    }
+
+    private static UUID seed(ConfigurableApplicationContext context, int rows) {
+        Event event = context.getBean(EventRepository.class).save(Event.builder()
+                .title("Export benchmark")
+                .description("Seeded by TicketExportBenchmark")
+                .startTime(LocalDateTime.now().plusDays(30))
+                .createdBy(OWNER)
+                .build());
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        Timestamp purchasedAt = Timestamp.valueOf(LocalDateTime.now());
+        long started = System.nanoTime();
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+        for (int i = 0; i < rows; i++) {
+            batch.add(new Object[]{UUID.randomUUID(), event.getId(), i % 10 == 0 ? "VIP" : "GENERAL", 45.0 + i % 3,
+                    1, 1, "NOT_ATTENDED", "buyer" + i + "@example.com", purchasedAt});
+            if (batch.size() == INSERT_BATCH || i == rows - 1) {
+                jdbc.batchUpdate("INSERT INTO tickets (id, event_id, ticket_type, price, quantity_available, "
+                        + "quantity_sold, attendance_status, purchased_by, purchased_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+        System.out.printf("Seeded %d tickets in %d ms%n", rows, (System.nanoTime() - started) / 1_000_000);
+        return event.getId();
+    }
+
+    private static long liveHeap(MemoryMXBean memory) {
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    // Discards the CSV, counting bytes and lines, and records live heap every `interval` lines
+    private static final class HeapSamplingStream extends OutputStream {
+
+        private final MemoryMXBean memory;
+        private final int interval;
+        private final List<long[]> samples = new ArrayList<>();
+        private long bytes;
+        private long rows;
+
+        private HeapSamplingStream(MemoryMXBean memory, int interval) {
+            this.memory = memory;
+            this.interval = interval;
+        }
+
+        @Override
+        public void write(int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            bytes += length;
+            for (int i = offset; i < offset + length; i++) {
+                if (buffer[i] == '\n' && ++rows % interval == 0) {
+                    samples.add(new long[]{rows, liveHeap(memory)});
+                }
+            }
+        }
+    }
+}
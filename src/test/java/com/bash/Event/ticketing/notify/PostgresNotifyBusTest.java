@@ -0,0 +1,87 @@
+package com.bash.Event.ticketing.notify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@Timeout(10)
+public class PostgresNotifyBusTest {
+
+    private DataSource dataSource;
+    private TestBus bus;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = mock(DataSource.class);
+        bus = new TestBus(dataSource, "test_channel");
+    }
+
+    @Test
+    void testPayloadRoundTrips() {
+        Message message = new Message("hello");
+        assertEquals(message, bus.decode(bus.encode(message)));
+    }
+
+    @Test
+    void testOversizedPayloadIsReplaced() {
+        String payload = bus.encode(new Message("x".repeat(9_000)));
+        assertTrue(payload.getBytes(StandardCharsets.UTF_8).length <= PostgresNotifyBus.MAX_PAYLOAD_BYTES);
+        assertEquals(new Message("too big"), bus.decode(payload));
+    }
+
+    @Test
+    void testMalformedPayloadIsIgnored() {
+        assertNull(bus.decode("not json"));
+    }
+
+    @Test
+    void testFailedPublishIsHandedToTheBus() throws Exception {
+        when(dataSource.getConnection()).thenThrow(new SQLException("pool exhausted"));
+        bus.publish(new Message("lost"));
+        assertEquals(List.of(new Message("lost")), bus.failed);
+    }
+
+    @Test
+    void testRejectsUnsafeChannelName() {
+        assertThrows(IllegalArgumentException.class, () -> new TestBus(dataSource, "test; DROP TABLE events"));
+    }
+
+    record Message(String text) {
+    }
+
+    private static final class TestBus extends PostgresNotifyBus<Message> {
+
+        private final List<Message> failed = new ArrayList<>();
+
+        private TestBus(DataSource dataSource, String channel) {
+            super("TestBusListener", dataSource, mock(DataSource.class), new ObjectMapper(), channel, Message.class);
+        }
+
+        @Override
+        protected Message oversized(Message message) {
+            return new Message("too big");
+        }
+
+        @Override
+        protected Message reconnected() {
+            return new Message("reconnected");
+        }
+
+        @Override
+        protected void publishFailed(Message message, SQLException e) {
+            failed.add(message);
+        }
+    }
+}